@@ -0,0 +1,111 @@
+package com.example.myapp.benchmark;
+
+import com.example.myapp.config.ContractStatusConverter;
+import com.example.myapp.config.ContractTypeConverter;
+import com.example.myapp.config.EmployeeStatusConverter;
+import com.example.myapp.config.EventTypeConverter;
+import com.example.myapp.config.ProjectStatusConverter;
+import com.example.myapp.config.TaskStatusConverter;
+import com.example.myapp.config.TicketStatusConverter;
+import com.example.myapp.model.ContractStatus;
+import com.example.myapp.model.ContractType;
+import com.example.myapp.model.EmployeeStatus;
+import com.example.myapp.model.EventType;
+import com.example.myapp.model.ProjectStatus;
+import com.example.myapp.model.TaskStatus;
+import com.example.myapp.model.TicketStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+// Column value -> enum, as Hibernate calls it for every status/type column of every row read.
+// Each invocation converts every display name of the enum once.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class ConverterBenchmark {
+
+    private final EventTypeConverter eventType = new EventTypeConverter();
+    private final TaskStatusConverter taskStatus = new TaskStatusConverter();
+    private final TicketStatusConverter ticketStatus = new TicketStatusConverter();
+    private final ProjectStatusConverter projectStatus = new ProjectStatusConverter();
+    private final EmployeeStatusConverter employeeStatus = new EmployeeStatusConverter();
+    private final ContractStatusConverter contractStatus = new ContractStatusConverter();
+    private final ContractTypeConverter contractType = new ContractTypeConverter();
+
+    private final String[] eventTypes = names(EventType.values(), EventType::getDisplayName);
+    private final String[] taskStatuses = names(TaskStatus.values(), TaskStatus::getDisplayName);
+    private final String[] ticketStatuses = names(TicketStatus.values(), TicketStatus::getDisplayName);
+    private final String[] projectStatuses = names(ProjectStatus.values(), ProjectStatus::getDisplayName);
+    private final String[] employeeStatuses = names(EmployeeStatus.values(), EmployeeStatus::getDisplayName);
+    private final String[] contractStatuses = names(ContractStatus.values(), ContractStatus::getDisplayName);
+    private final String[] contractTypes = names(ContractType.values(), ContractType::getDisplayName);
+
+    @Benchmark
+    public void eventType(Blackhole blackhole) {
+        for (String name : eventTypes) {
+            blackhole.consume(eventType.convertToEntityAttribute(name));
+        }
+    }
+
+    @Benchmark
+    public void taskStatus(Blackhole blackhole) {
+        for (String name : taskStatuses) {
+            blackhole.consume(taskStatus.convertToEntityAttribute(name));
+        }
+    }
+
+    @Benchmark
+    public void ticketStatus(Blackhole blackhole) {
+        for (String name : ticketStatuses) {
+            blackhole.consume(ticketStatus.convertToEntityAttribute(name));
+        }
+    }
+
+    @Benchmark
+    public void projectStatus(Blackhole blackhole) {
+        for (String name : projectStatuses) {
+            blackhole.consume(projectStatus.convertToEntityAttribute(name));
+        }
+    }
+
+    @Benchmark
+    public void employeeStatus(Blackhole blackhole) {
+        for (String name : employeeStatuses) {
+            blackhole.consume(employeeStatus.convertToEntityAttribute(name));
+        }
+    }
+
+    @Benchmark
+    public void contractStatus(Blackhole blackhole) {
+        for (String name : contractStatuses) {
+            blackhole.consume(contractStatus.convertToEntityAttribute(name));
+        }
+    }
+
+    @Benchmark
+    public void contractType(Blackhole blackhole) {
+        for (String name : contractTypes) {
+            blackhole.consume(contractType.convertToEntityAttribute(name));
+        }
+    }
+
+    // Fresh String instances, as read from a ResultSet, so equals() cannot short-circuit on identity
+    private static <E> String[] names(E[] values, Function<E, String> displayName) {
+        return Arrays.stream(values).map(value -> new String(displayName.apply(value))).toArray(String[]::new);
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.myapp.benchmark;
+
+import com.example.myapp.dto.DepartmentInfoDTO;
+import com.example.myapp.model.Department;
+import com.example.myapp.model.Employee;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Constructor;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// DepartmentService.getDepartmentsWithManagerNames without the database. The DTOs are built by the
+// JPQL constructor expression in DepartmentRepository.findAllWithManagerNames, i.e. one reflective
+// constructor call per result row (constructorExpression); fromEntities is the earlier in-memory
+// mapping over loaded departments and their heads. serialize is the response body.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class DepartmentMappingBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int rows;
+
+    private final ObjectWriter writer = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build()
+            .writer();
+
+    private Constructor<DepartmentInfoDTO> constructor;
+    private List<Department> departments;
+    private List<Object[]> resultRows;
+    private List<DepartmentInfoDTO> dtos;
+
+    @Setup(Level.Trial)
+    public void setUp() throws NoSuchMethodException {
+        constructor = DepartmentInfoDTO.class.getConstructor(Integer.class, String.class, String.class, Integer.class);
+        departments = Fixtures.list(rows, Fixtures::department);
+        // What the query returns per row: id, name, COALESCE(CONCAT(first, ' ', last), 'N/A'), head id
+        resultRows = departments.stream().map(d -> new Object[] {
+                d.getDepartmentId(), d.getDepartmentName(),
+                d.getHeadEmployee() != null ? d.getHeadEmployee().getFirstName() + " " + d.getHeadEmployee().getLastName() : "N/A",
+                d.getHeadEmployeeId()}).toList();
+        dtos = fromEntities();
+    }
+
+    @Benchmark
+    public List<DepartmentInfoDTO> constructorExpression() throws ReflectiveOperationException {
+        DepartmentInfoDTO[] result = new DepartmentInfoDTO[resultRows.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = constructor.newInstance(resultRows.get(i));
+        }
+        return List.of(result);
+    }
+
+    @Benchmark
+    public List<DepartmentInfoDTO> fromEntities() {
+        return departments.stream().map(dept -> {
+            Employee manager = dept.getHeadEmployee();
+            String managerName = (manager != null) ? manager.getFirstName() + " " + manager.getLastName() : "N/A";
+            Integer managerId = (manager != null) ? manager.getEmployeeId() : null;
+            return new DepartmentInfoDTO(dept.getDepartmentId(), dept.getDepartmentName(), managerName, managerId);
+        }).toList();
+    }
+
+    @Benchmark
+    public void serialize() throws IOException {
+        writer.writeValue(OutputStream.nullOutputStream(), dtos);
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.myapp.benchmark;
+
+import com.example.myapp.model.Employee;
+import com.example.myapp.service.EmployeeService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Field validation run by saveEmployeeWithContract and the CSV import for every employee.
+// stringMatches is the former String.matches call, which compiles the pattern on each use.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class EmailValidationBenchmark {
+
+    // Same expression as EmployeeService.EMAIL_PATTERN
+    private static final String EMAIL_REGEX = "^[\\w-\\.]+@([\\w-]+\\.)+[\\w-]{2,4}$";
+
+    private final List<Employee> employees = Fixtures.list(16, Fixtures::employee);
+
+    @Benchmark
+    public void validateEmployeeFields() {
+        for (Employee employee : employees) {
+            EmployeeService.validateEmployeeFields(employee);
+        }
+    }
+
+    @Benchmark
+    public void stringMatches(Blackhole blackhole) {
+        for (Employee employee : employees) {
+            blackhole.consume(employee.getEmail().matches(EMAIL_REGEX));
+        }
+    }
+}
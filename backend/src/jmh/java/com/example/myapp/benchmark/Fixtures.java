@@ -0,0 +1,84 @@
+package com.example.myapp.benchmark;
+
+import com.example.myapp.model.Department;
+import com.example.myapp.model.Employee;
+import com.example.myapp.model.EmployeeStatus;
+import com.example.myapp.model.Task;
+import com.example.myapp.model.TaskPriority;
+import com.example.myapp.model.TaskStatus;
+import com.example.myapp.model.Ticket;
+import com.example.myapp.model.TicketPriority;
+import com.example.myapp.model.TicketStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+// Deterministic rows shaped like production data, so runs are comparable between versions
+final class Fixtures {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    private Fixtures() {
+    }
+
+    static <T> List<T> list(int rows, IntFunction<T> row) {
+        List<T> list = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            list.add(row.apply(i));
+        }
+        return list;
+    }
+
+    static Employee employee(int i) {
+        Employee employee = new Employee();
+        employee.setEmployeeId(1000 + i);
+        employee.setFirstName("First" + i);
+        employee.setLastName("Last" + i);
+        employee.setEmail("employee" + i + "@example.com");
+        employee.setHireDate(LocalDate.of(2015, 1, 1).plusDays(i % 3000));
+        employee.setDepartmentId(1 + i % 20);
+        employee.setJobTitle(i % 10 == 0 ? "Manager" : "Engineer");
+        employee.setManagerId(i % 10 == 0 ? null : 1000 + i / 10 * 10);
+        employee.setStatus(EmployeeStatus.values()[i % EmployeeStatus.values().length]);
+        employee.setAge(22 + i % 40);
+        employee.setSexe(i % 2 == 0 ? "F" : "M");
+        return employee;
+    }
+
+    static Task task(int i) {
+        Task task = new Task(1 + i % 50, 1000 + i % 1000, "Task " + i, BASE.plusHours(i));
+        task.setTaskId(1 + i);
+        task.setDescription("Description of task " + i);
+        task.setPriority(TaskPriority.values()[i % TaskPriority.values().length]);
+        task.setStatus(TaskStatus.values()[i % TaskStatus.values().length]);
+        task.setDueDate(BASE.plusDays(7 + i % 30));
+        task.setCompletedDate(task.getStatus() == TaskStatus.Completed ? BASE.plusDays(i % 30) : null);
+        return task;
+    }
+
+    static Ticket ticket(int i) {
+        Ticket ticket = new Ticket("Ticket " + i, "Description of ticket " + i, 1000 + i % 1000);
+        ticket.setTicketId(1 + i);
+        ticket.setClientId(1 + i % 100);
+        ticket.setPriority(TicketPriority.values()[i % TicketPriority.values().length]);
+        ticket.setStatus(TicketStatus.values()[i % TicketStatus.values().length]);
+        ticket.setCreatedAt(BASE.plusHours(i));
+        ticket.setResolvedAt(ticket.getStatus() == TicketStatus.Resolved ? BASE.plusHours(i + 48) : null);
+        return ticket;
+    }
+
+    // Every third department has no head
+    static Department department(int i) {
+        Department department = new Department("Department " + i, "Description of department " + i);
+        department.setDepartmentId(1 + i);
+        if (i % 3 != 0) {
+            Employee head = employee(i);
+            department.setHeadEmployeeId(head.getEmployeeId());
+            department.setHeadEmployee(head);
+        }
+        return department;
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.myapp.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// A full list response body (GET /api/employees, /api/tasks, /api/tickets) written by Jackson,
+// configured like Spring Boot's ObjectMapper; the bytes are discarded.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    @Param({"employee", "task", "ticket"})
+    private String entity;
+
+    @Param({"1000", "10000", "100000"})
+    private int rows;
+
+    private final ObjectWriter writer = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build()
+            .writer();
+
+    private List<?> list;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        list = switch (entity) {
+            case "employee" -> Fixtures.list(rows, Fixtures::employee);
+            case "task" -> Fixtures.list(rows, Fixtures::task);
+            case "ticket" -> Fixtures.list(rows, Fixtures::ticket);
+            default -> throw new IllegalArgumentException("Unknown entity: " + entity);
+        };
+    }
+
+    @Benchmark
+    public void writeList() throws IOException {
+        writer.writeValue(OutputStream.nullOutputStream(), list);
+    }
+}
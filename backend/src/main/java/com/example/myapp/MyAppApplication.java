@@ -6,12 +6,14 @@ import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EntityScan("com.example.myapp.model")
 @EnableJpaRepositories("com.example.myapp.repository")
 @EnableTransactionManagement
 @EnableCaching
+@EnableScheduling
 public class MyAppApplication {
 
     public static void main(String[] args) {
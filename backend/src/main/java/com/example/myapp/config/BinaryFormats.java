@@ -0,0 +1,67 @@
+package com.example.myapp.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.Comparator;
+import java.util.List;
+
+// Binary JSON encodings internal consumers can ask for with Accept. The mappers come from Boot's
+// builder, so dates, modules and features match the JSON responses field for field.
+// Not exposed as ObjectMapper beans: a second ObjectMapper bean would switch off Boot's own.
+@Component
+public class BinaryFormats {
+
+    public static final MediaType SMILE = new MediaType("application", "x-jackson-smile");
+    public static final MediaType CBOR = new MediaType("application", "cbor");
+
+    public static final String JSON_FORMAT = "json";
+    public static final String SMILE_FORMAT = "smile";
+    public static final String CBOR_FORMAT = "cbor";
+
+    private final ObjectMapper smileMapper;
+    private final ObjectMapper cborMapper;
+
+    public BinaryFormats(Jackson2ObjectMapperBuilder builder) {
+        // Back-references for repeated string values too, e.g. status and priority display names
+        SmileFactory smile = new SmileFactory().enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES);
+        this.smileMapper = builder.factory(smile).build();
+        this.cborMapper = builder.factory(new CBORFactory()).build();
+    }
+
+    public ObjectMapper smileMapper() { return smileMapper; }
+    public ObjectMapper cborMapper() { return cborMapper; }
+
+    // The encoding content negotiation will pick for this Accept header; JSON unless a binary
+    // type is preferred over it
+    public static String formatOf(String accept) {
+        if (!StringUtils.hasText(accept)) {
+            return JSON_FORMAT;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+        } catch (IllegalArgumentException e) {
+            return JSON_FORMAT;
+        }
+        accepted.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType type : accepted) {
+            if (type.isWildcardType() || type.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return JSON_FORMAT;
+            }
+            if (type.isCompatibleWith(SMILE)) {
+                return SMILE_FORMAT;
+            }
+            if (type.isCompatibleWith(CBOR)) {
+                return CBOR_FORMAT;
+            }
+        }
+        return JSON_FORMAT;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.myapp.config;
+
+import com.example.myapp.repository.DepartmentRepository;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.function.Supplier;
+
+@Configuration
+public class CacheConfig {
+
+    // Reference data read by the department screens, AddEmployeeForm and employee validation
+    public static final String DEPARTMENTS = "departments";
+    public static final String DEPARTMENT_LIST = "departmentList";
+    public static final String DEPARTMENTS_WITH_MANAGERS = "departmentsWithManagers";
+
+    @Bean
+    public CacheManager cacheManager(@Value("${cache.reference-data.spec}") String spec,
+                                     ObjectProvider<DepartmentRepository> departmentRepository) {
+        // Caches are declared up front so the actuator binds their hit/miss/eviction metrics at startup.
+        // Each has its own loader so that refreshAfterWrite (in the spec) reloads a hot entry in the
+        // background after a read, instead of every reader waiting on the query once it expires.
+        CaffeineCacheManager caffeine = new CaffeineCacheManager();
+        caffeine.registerCustomCache(DEPARTMENTS, Caffeine.from(spec)
+                .build((CacheLoader<Object, Object>) id -> departmentRepository.getObject().findById((Integer) id).orElse(null)));
+        caffeine.registerCustomCache(DEPARTMENT_LIST, Caffeine.from(spec)
+                .build(listLoader(() -> departmentRepository.getObject().findAll())));
+        caffeine.registerCustomCache(DEPARTMENTS_WITH_MANAGERS, Caffeine.from(spec)
+                .build(listLoader(() -> departmentRepository.getObject().findAllWithManagerNames())));
+        // Evictions issued inside a transaction are applied after commit, so a concurrent
+        // reader cannot put the pre-commit state back into the cache
+        return new TransactionAwareCacheManagerProxy(caffeine);
+    }
+
+    // The list caches are keyed by SimpleKey.EMPTY (no-argument @Cacheable methods)
+    private static CacheLoader<Object, Object> listLoader(Supplier<Object> query) {
+        return key -> SimpleKey.EMPTY.equals(key) ? query.get() : null;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.myapp.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Marks a GET handler whose response only depends on the listed collections ("employee", "project", ...).
+// CollectionETagInterceptor derives its ETag from their versions and answers If-None-Match with a 304
+// before the handler runs.
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CollectionETag {
+    String[] value();
+
+    // The response also depends on the current month (e.g. trailing 12-month timelines)
+    boolean perMonth() default false;
+}
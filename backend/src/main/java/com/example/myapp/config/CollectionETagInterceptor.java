@@ -0,0 +1,83 @@
+package com.example.myapp.config;
+
+import com.example.myapp.service.CollectionVersions;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.io.IOException;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.List;
+
+// Conditional GET for @CollectionETag handlers. The ETag is the vector of the collections' versions,
+// so an unchanged dashboard refresh costs one primary-key lookup: no list query, no serialization. Clients
+// without a copy are served from PrecompressedResponseFilter while the versions stay the same.
+// Versions are read before the handler queries anything, so a write committing mid-request can only
+// make the tag older than the body (one extra 200 later), never newer (a stale 304).
+@Component
+public class CollectionETagInterceptor implements HandlerInterceptor {
+
+    @Autowired
+    private CollectionVersions collectionVersions;
+
+    @Autowired
+    private PrecompressedResponseFilter precompressed;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        if (!(handler instanceof HandlerMethod method)) {
+            return true;
+        }
+        CollectionETag versioned = method.getMethodAnnotation(CollectionETag.class);
+        if (versioned == null || !("GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod()))) {
+            return true;
+        }
+        // Revalidate on every use; the data is per-user HR data, so keep it out of shared caches
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        response.addHeader(HttpHeaders.VARY, "Accept, Accept-Encoding");
+        String format = BinaryFormats.formatOf(request.getHeader(HttpHeaders.ACCEPT));
+        List<String> collections = Arrays.asList(versioned.value());
+        String versions = collectionVersions.tag(collections);
+        if (versions == null) {
+            return true;
+        }
+        String etag = etag(versions, versioned, format);
+        if (new ServletWebRequest(request, response).checkNotModified(etag)) {
+            return false;
+        }
+        // The body must be at least as new as the tag, which was read on the primary
+        if (!collectionVersions.isReplicaCurrent(collections, versions)) {
+            ReadYourWrites.pinRequest();
+        }
+
+        String encoding = precompressed.preferredEncoding(request);
+        if (encoding == null || !"GET".equals(request.getMethod())) {
+            return true;
+        }
+        String query = request.getQueryString();
+        String key = request.getRequestURI() + (query != null ? "?" + query : "") + " " + encoding + " " + etag;
+        if (precompressed.serve(key, encoding, response)) {
+            return false;
+        }
+        precompressed.capture(request, key, encoding);
+        return true;
+    }
+
+    // JSON keeps the bare version vector; binary representations get their own tags
+    private String etag(String versions, CollectionETag versioned, String format) {
+        StringBuilder tag = new StringBuilder("\"").append(versions);
+        if (versioned.perMonth()) {
+            tag.append('-').append(YearMonth.now());
+        }
+        if (!BinaryFormats.JSON_FORMAT.equals(format)) {
+            tag.append('-').append(format);
+        }
+        return tag.append('"').toString();
+    }
+}
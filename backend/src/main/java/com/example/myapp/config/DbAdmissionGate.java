@@ -0,0 +1,122 @@
+package com.example.myapp.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Admits at most as many callers as the pool has connections; everyone else waits here, in
+// arrival order, on a semaphore. Parked virtual threads cost next to nothing, so thousands of
+// concurrent requests can queue without pinning OS threads inside the pool, and the wait shows
+// up as db.gate.wait{pool} (outcome=admitted|timeout) next to db.gate.waiting / db.gate.active.
+public class DbAdmissionGate extends DelegatingDataSource {
+
+    private final String name;
+    private final Semaphore permits;
+    private final long timeoutMs;
+    private final Timer admitted;
+    private final Timer timedOut;
+
+    public DbAdmissionGate(DataSource target, String name, int size, long timeoutMs, MeterRegistry meterRegistry) {
+        super(target);
+        this.name = name;
+        this.permits = new Semaphore(size, true);
+        this.timeoutMs = timeoutMs;
+        this.admitted = Timer.builder("db.gate.wait").tag("pool", name).tag("outcome", "admitted").register(meterRegistry);
+        this.timedOut = Timer.builder("db.gate.wait").tag("pool", name).tag("outcome", "timeout").register(meterRegistry);
+        Gauge.builder("db.gate.waiting", permits, Semaphore::getQueueLength).tag("pool", name).register(meterRegistry);
+        Gauge.builder("db.gate.active", permits, p -> size - p.availablePermits()).tag("pool", name).register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        admit();
+        return release(() -> super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        admit();
+        return release(() -> super.getConnection(username, password));
+    }
+
+    private void admit() throws SQLException {
+        long started = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted waiting for a " + name + " database connection", e);
+        }
+        long waited = System.nanoTime() - started;
+        if (!acquired) {
+            timedOut.record(waited, TimeUnit.NANOSECONDS);
+            throw new SQLTransientConnectionException("Timed out after " + timeoutMs + "ms waiting for a " + name
+                    + " database connection (" + permits.getQueueLength() + " waiting)");
+        }
+        admitted.record(waited, TimeUnit.NANOSECONDS);
+    }
+
+    // The permit goes back when the connection is closed (returned to the pool), exactly once
+    private Connection release(ConnectionSource source) throws SQLException {
+        Connection connection;
+        try {
+            connection = source.get();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+        AtomicBoolean released = new AtomicBoolean(false);
+        return (Connection) Proxy.newProxyInstance(ConnectionProxy.class.getClassLoader(), new Class<?>[] {ConnectionProxy.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "getTargetConnection":
+                            return connection;
+                        case "close":
+                            if (released.compareAndSet(false, true)) {
+                                try {
+                                    connection.close();
+                                } finally {
+                                    permits.release();
+                                }
+                                return null;
+                            }
+                            break;
+                        default:
+                            break;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+
+    // Called by Spring on shutdown (inferred destroy method); closes the pool behind the gate
+    public void close() throws Exception {
+        if (getTargetDataSource() instanceof AutoCloseable pool) {
+            pool.close();
+        }
+    }
+
+    private interface ConnectionSource {
+        Connection get() throws SQLException;
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.myapp.config;
+
+import com.example.myapp.dto.ChangeDTO;
+import com.example.myapp.model.Client;
+import com.example.myapp.model.Contract;
+import com.example.myapp.model.Department;
+import com.example.myapp.model.Employee;
+import com.example.myapp.model.Project;
+import com.example.myapp.model.Task;
+import com.example.myapp.model.Ticket;
+import com.example.myapp.service.ChangeFeed;
+import com.example.myapp.service.CollectionVersions;
+import com.example.myapp.service.DueDateScheduler;
+import com.example.myapp.service.DueDateScheduler.Kind;
+import com.example.myapp.service.OrgChart;
+import com.example.myapp.service.SearchIndex;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Locale;
+
+// Keeps the in-memory SearchIndex, OrgChart and DueDateScheduler in step with JPA writes and
+// records every write in the ChangeFeed. Changes are applied once the transaction commits so a
+// rollback never shows up in any of them. The writing client is pinned to the primary right away.
+@Component
+public class EntityChangeListener {
+
+    @Autowired
+    private SearchIndex searchIndex;
+
+    @Autowired
+    private OrgChart orgChart;
+
+    @Autowired
+    private DueDateScheduler dueDateScheduler;
+
+    @Autowired
+    private ChangeFeed changeFeed;
+
+    @Autowired
+    private ReadYourWrites readYourWrites;
+
+    @Autowired
+    private CollectionVersions collectionVersions;
+
+    @PostPersist
+    public void onInsert(Object entity) {
+        readYourWrites.pin();
+        collectionVersions.bump(entityName(entity));
+        afterCommit(() -> {
+            index(entity);
+            changeFeed.record(entityName(entity), ChangeDTO.INSERT, idOf(entity), entity);
+        });
+    }
+
+    @PostUpdate
+    public void onUpdate(Object entity) {
+        readYourWrites.pin();
+        collectionVersions.bump(entityName(entity));
+        afterCommit(() -> {
+            index(entity);
+            changeFeed.record(entityName(entity), ChangeDTO.UPDATE, idOf(entity), entity);
+        });
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        readYourWrites.pin();
+        collectionVersions.bump(entityName(entity));
+        afterCommit(() -> {
+            if (entity instanceof Employee e) {
+                searchIndex.remove(SearchIndex.EMPLOYEE, e.getEmployeeId());
+                orgChart.remove(e.getEmployeeId());
+            } else if (entity instanceof Client c) {
+                searchIndex.remove(SearchIndex.CLIENT, c.getClientId());
+            } else if (entity instanceof Project p) {
+                searchIndex.remove(SearchIndex.PROJECT, p.getProjectId());
+                dueDateScheduler.untrack(Kind.PROJECT, p.getProjectId());
+            } else if (entity instanceof Task t) {
+                searchIndex.remove(SearchIndex.TASK, t.getTaskId());
+                dueDateScheduler.untrack(Kind.TASK, t.getTaskId());
+            } else if (entity instanceof Ticket t) {
+                searchIndex.remove(SearchIndex.TICKET, t.getTicketId());
+            }
+            changeFeed.record(entityName(entity), ChangeDTO.DELETE, idOf(entity), null);
+        });
+    }
+
+    private void index(Object entity) {
+        if (entity instanceof Employee e) {
+            searchIndex.put(SearchIndex.EMPLOYEE, e.getEmployeeId(), e.getFirstName() + " " + e.getLastName(), e.getJobTitle());
+            orgChart.put(e.getEmployeeId(), e.getManagerId());
+        } else if (entity instanceof Client c) {
+            searchIndex.put(SearchIndex.CLIENT, c.getClientId(), c.getClientName(), c.getContactPerson());
+        } else if (entity instanceof Project p) {
+            searchIndex.put(SearchIndex.PROJECT, p.getProjectId(), p.getProjectName(), p.getStatus() != null ? p.getStatus().getDisplayName() : null);
+            dueDateScheduler.trackProject(p.getProjectId(), p.getDueAt(), p.getStatus());
+        } else if (entity instanceof Task t) {
+            searchIndex.put(SearchIndex.TASK, t.getTaskId(), t.getTitle(), t.getStatus() != null ? t.getStatus().getDisplayName() : null);
+            dueDateScheduler.trackTask(t.getTaskId(), t.getDueDate(), t.getStatus());
+        } else if (entity instanceof Ticket t) {
+            searchIndex.put(SearchIndex.TICKET, t.getTicketId(), t.getTitle(), t.getStatus() != null ? t.getStatus().getDisplayName() : null);
+        }
+    }
+
+    // "employee", "client", ... as used by SearchIndex and the change feed
+    private static String entityName(Object entity) {
+        return entity.getClass().getSimpleName().toLowerCase(Locale.ROOT);
+    }
+
+    private static Object idOf(Object entity) {
+        if (entity instanceof Employee e) {
+            return e.getEmployeeId();
+        } else if (entity instanceof Client c) {
+            return c.getClientId();
+        } else if (entity instanceof Project p) {
+            return p.getProjectId();
+        } else if (entity instanceof Task t) {
+            return t.getTaskId();
+        } else if (entity instanceof Ticket t) {
+            return t.getTicketId();
+        } else if (entity instanceof Department d) {
+            return d.getDepartmentId();
+        } else if (entity instanceof Contract c) {
+            return c.getContractId();
+        }
+        return null;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() { action.run(); }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
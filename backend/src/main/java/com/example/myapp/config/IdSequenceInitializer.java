@@ -0,0 +1,49 @@
+package com.example.myapp.config;
+
+import com.example.myapp.model.Contract;
+import com.example.myapp.model.Employee;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// Rows created before the ID sequences existed (random 1000-9999 IDs, bulk imports) sit above
+// the sequence start. Moves each sequence past the current maximum; it never moves one backwards,
+// so blocks already reserved by another running instance stay valid.
+@Component
+public class IdSequenceInitializer {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdSequenceInitializer.class);
+
+    // Injected so this runs after Hibernate's schema update has created the sequences
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void alignSequences() {
+        align(Employee.ID_SEQUENCE, "employees", "employee_id");
+        align(Contract.ID_SEQUENCE, "contracts", "contract_id");
+    }
+
+    private void align(String sequence, String table, String column) {
+        try {
+            // The next nextval() then returns max_id + allocationSize, the low end of a fresh pooled-lo block
+            List<Long> moved = jdbcTemplate.queryForList(
+                    "SELECT setval('" + sequence + "', t.max_id) FROM (SELECT MAX(" + column + ") AS max_id FROM " + table + ") t " +
+                    "WHERE t.max_id > (SELECT last_value FROM " + sequence + ")", Long.class);
+            if (!moved.isEmpty()) {
+                logger.info("Moved {} past existing {}.{} values to {}", sequence, table, column, moved.get(0));
+            }
+        } catch (Exception e) {
+            logger.warn("Could not align {} with {}.{}: {}", sequence, table, column, e.getMessage());
+        }
+    }
+}
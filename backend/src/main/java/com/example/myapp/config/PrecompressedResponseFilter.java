@@ -0,0 +1,264 @@
+package com.example.myapp.config;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.time.Duration;
+import java.util.zip.GZIPOutputStream;
+
+// Compressed bodies of @CollectionETag responses, keyed by URL, representation, content coding
+// and ETag. While a collection is unchanged, repeat reads from clients without a cached copy are
+// answered from here: no query, no Jackson, no compressor. A write changes the ETag and therefore
+// the key, so superseded entries are never served and simply age out.
+//
+// Everything else (uncached endpoints, exports, small bodies) is left to the container's
+// server.compression settings.
+@Component
+public class PrecompressedResponseFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(PrecompressedResponseFilter.class);
+
+    static final String BROTLI = "br";
+    static final String GZIP = "gzip";
+
+    // Set by CollectionETagInterceptor when the handler's body should be captured and stored
+    private static final String PENDING = PrecompressedResponseFilter.class.getName() + ".pending";
+
+    private final Cache<String, Entry> cache;
+    private final long minSize;
+    private final Encoder.Parameters brotliParameters;
+    private final boolean brotliAvailable;
+
+    public PrecompressedResponseFilter(@Value("${compression.cache.max-size:64MB}") DataSize maxSize,
+                                       @Value("${server.compression.min-response-size:2KB}") DataSize minSize,
+                                       @Value("${compression.brotli-quality:6}") int brotliQuality,
+                                       MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((String key, Entry entry) -> key.length() + entry.body.length)
+                .expireAfterAccess(Duration.ofMinutes(30))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "precompressed");
+        this.minSize = minSize.toBytes();
+        this.brotliParameters = new Encoder.Parameters().setQuality(brotliQuality).setMode(Encoder.Mode.TEXT);
+        this.brotliAvailable = Brotli4jLoader.isAvailable();
+        if (!brotliAvailable) {
+            logger.warn("Brotli native library unavailable, precompressed responses use gzip only: {}",
+                    Brotli4jLoader.getUnavailabilityCause().getMessage());
+        }
+    }
+
+    // br or gzip if the client takes either, null otherwise
+    public String preferredEncoding(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return null;
+        }
+        boolean gzip = false;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts.length > 1 && parts[1].trim().matches("q=0(\\.0*)?")) {
+                continue;
+            }
+            if (brotliAvailable && BROTLI.equalsIgnoreCase(parts[0].trim())) {
+                return BROTLI;
+            }
+            gzip |= GZIP.equalsIgnoreCase(parts[0].trim());
+        }
+        return gzip ? GZIP : null;
+    }
+
+    // Writes the stored body for this key, if there is one
+    public boolean serve(String key, String encoding, HttpServletResponse response) throws IOException {
+        Entry entry = cache.getIfPresent(key);
+        if (entry == null) {
+            return false;
+        }
+        write(entry, encoding, response);
+        return true;
+    }
+
+    // Captures the body the handler is about to write so doFilterInternal can store it under key
+    public void capture(HttpServletRequest request, String key, String encoding) {
+        request.setAttribute(PENDING, new Pending(key, encoding));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod()) || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        CapturingResponse capturing = new CapturingResponse(request, response);
+        chain.doFilter(request, capturing);
+        if (!capturing.captured()) {
+            return;
+        }
+
+        byte[] body = capturing.body();
+        Pending pending = (Pending) request.getAttribute(PENDING);
+        if (response.getStatus() != HttpServletResponse.SC_OK || body.length < minSize) {
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+            return;
+        }
+        Entry entry = new Entry(response.getContentType(), compress(body, pending.encoding));
+        cache.put(pending.key, entry);
+        write(entry, pending.encoding, response);
+    }
+
+    private byte[] compress(byte[] body, String encoding) throws IOException {
+        if (BROTLI.equals(encoding)) {
+            return Encoder.compress(body, brotliParameters);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+
+    private static void write(Entry entry, String encoding, HttpServletResponse response) throws IOException {
+        // Same convention as the container's own compression: the coded body only has a weak ETag
+        String etag = response.getHeader(HttpHeaders.ETAG);
+        if (etag != null && !etag.startsWith("W/")) {
+            response.setHeader(HttpHeaders.ETAG, "W/" + etag);
+        }
+        response.setContentType(entry.contentType);
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, encoding);
+        response.setContentLength(entry.body.length);
+        response.getOutputStream().write(entry.body);
+    }
+
+    private static class Pending {
+        private final String key;
+        private final String encoding;
+
+        Pending(String key, String encoding) {
+            this.key = key;
+            this.encoding = encoding;
+        }
+    }
+
+    private static class Entry {
+        private final String contentType;
+        private final byte[] body;
+
+        Entry(String contentType, byte[] body) {
+            this.contentType = contentType;
+            this.body = body;
+        }
+    }
+
+    // Passes writes straight through unless the interceptor asked for a capture before the first
+    // write, so streamed exports and SSE are never buffered
+    private static class CapturingResponse extends HttpServletResponseWrapper {
+        private final HttpServletRequest request;
+        private ByteArrayOutputStream buffer;
+        private ServletOutputStream stream;
+        private PrintWriter writer;
+
+        CapturingResponse(HttpServletRequest request, HttpServletResponse response) {
+            super(response);
+            this.request = request;
+        }
+
+        private boolean capturing() {
+            if (buffer == null && request.getAttribute(PENDING) != null) {
+                buffer = new ByteArrayOutputStream(8192);
+            }
+            return buffer != null;
+        }
+
+        boolean captured() { return buffer != null; }
+
+        byte[] body() {
+            if (writer != null) {
+                writer.flush();
+            }
+            return buffer.toByteArray();
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (!capturing()) {
+                return super.getOutputStream();
+            }
+            if (stream == null) {
+                stream = new ServletOutputStream() {
+                    @Override
+                    public void write(int b) { buffer.write(b); }
+
+                    @Override
+                    public void write(byte[] b, int off, int len) { buffer.write(b, off, len); }
+
+                    @Override
+                    public boolean isReady() { return true; }
+
+                    @Override
+                    public void setWriteListener(WriteListener listener) {
+                        throw new UnsupportedOperationException();
+                    }
+                };
+            }
+            return stream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (!capturing()) {
+                return super.getWriter();
+            }
+            if (writer == null) {
+                writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), getCharacterEncoding()));
+            }
+            return writer;
+        }
+
+        @Override
+        public void setContentLength(int len) {
+            if (!capturing()) {
+                super.setContentLength(len);
+            }
+        }
+
+        @Override
+        public void setContentLengthLong(long len) {
+            if (!capturing()) {
+                super.setContentLengthLong(len);
+            }
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (!capturing()) {
+                super.flushBuffer();
+            }
+        }
+    }
+}
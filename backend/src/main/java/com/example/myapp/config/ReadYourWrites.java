@@ -0,0 +1,102 @@
+package com.example.myapp.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+// Read-your-writes for replica routing. Once a client writes, its reads stay on the primary for
+// the longest lag a replica may have while still in use (max lag + one probe interval), so a
+// client never reads a replica that has not replayed its own change yet. Clients are told apart
+// by the X-Client-Id header only (the frontend sends it around its writes, see clientId.js); the
+// remote address is shared by everyone behind the same proxy, so requests without the header are
+// never pinned.
+//
+// A request can also pin itself (pinRequest): an ETagged response whose collection versions, read
+// on the primary, are not on the replica yet (CollectionVersions.isReplicaCurrent).
+@Component
+public class ReadYourWrites extends OncePerRequestFilter {
+
+    public static final String CLIENT_HEADER = "X-Client-Id";
+
+    private static final ThreadLocal<RequestState> STATE = new ThreadLocal<>();
+
+    private final Cache<String, Boolean> pinned;
+
+    public ReadYourWrites(@Value("${datasource.replica.max-lag-ms:2000}") long maxLagMs,
+                          @Value("${datasource.replica.probe-interval-ms:1000}") long probeIntervalMs) {
+        this.pinned = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(maxLagMs + probeIntervalMs))
+                .maximumSize(100_000)
+                .build();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String client = request.getHeader(CLIENT_HEADER);
+        STATE.set(new RequestState(client != null && !client.isBlank() ? client : null));
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            STATE.remove();
+        }
+    }
+
+    // Called for every write; restarts the window of the client behind the current request
+    public void pin() {
+        RequestState state = STATE.get();
+        if (state != null && state.client != null) {
+            pinned.put(state.client, Boolean.TRUE);
+        }
+    }
+
+    // Keeps the rest of the current request, including work propagated to other threads, on the primary
+    public static void pinRequest() {
+        RequestState state = STATE.get();
+        if (state != null) {
+            state.pinned = true;
+        }
+    }
+
+    public boolean isPinned() {
+        RequestState state = STATE.get();
+        return state != null && (state.pinned || (state.client != null && pinned.getIfPresent(state.client) != null));
+    }
+
+    // Carries the current request's client and pin over to work handed to another thread
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        RequestState state = STATE.get();
+        return () -> {
+            RequestState previous = STATE.get();
+            STATE.set(state);
+            try {
+                return task.get();
+            } finally {
+                if (previous != null) {
+                    STATE.set(previous);
+                } else {
+                    STATE.remove();
+                }
+            }
+        };
+    }
+
+    private static class RequestState {
+        private final String client;
+        private volatile boolean pinned;
+
+        RequestState(String client) {
+            this.client = client;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.myapp.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Behind the application's DataSource when a replica is configured (see SupabaseDataSourceConfig).
+// Connections are only taken at the first statement of a transaction, so the transaction's
+// read-only flag is known here: @Transactional(readOnly = true) work goes to the replica while it
+// is reachable and no further behind than maxLagMs, and while the current client is not pinned by
+// ReadYourWrites; everything else goes to the primary. Lag is probed every probeIntervalMs.
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica";
+
+    // Caught up (nothing received but not replayed) counts as no lag: the replay timestamp alone
+    // keeps growing while the primary is idle
+    private static final String LAG_SQL =
+            "SELECT CASE WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0) END";
+
+    private final DataSource replica;
+    private final ReadYourWrites readYourWrites;
+    private final long maxLagMs;
+    private final ScheduledExecutorService prober = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "replica-lag-probe");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile double lagMs = Double.NaN; // NaN until the first successful probe or while unreachable
+    private volatile boolean usable;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReadYourWrites readYourWrites,
+                                    long maxLagMs, long probeIntervalMs, MeterRegistry meterRegistry) {
+        this.replica = replica;
+        this.readYourWrites = readYourWrites;
+        this.maxLagMs = maxLagMs;
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+        Gauge.builder("db.replica.lag", this, r -> r.lagMs / 1000).baseUnit("seconds").register(meterRegistry);
+        Gauge.builder("db.replica.usable", this, r -> r.usable ? 1 : 0).register(meterRegistry);
+        prober.scheduleWithFixedDelay(this::probe, 0, probeIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return usable && TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !readYourWrites.isPinned()
+                ? REPLICA : PRIMARY;
+    }
+
+    // Whether read-only work may go to the replica right now
+    public boolean isUsable() {
+        return usable;
+    }
+
+    public DataSource getReplica() {
+        return replica;
+    }
+
+    // Picked up by Spring as the bean's destroy method
+    public void close() {
+        prober.shutdownNow();
+    }
+
+    private void probe() {
+        boolean wasUsable = usable;
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(LAG_SQL)) {
+            rs.next();
+            lagMs = rs.getDouble(1);
+            usable = lagMs <= maxLagMs;
+        } catch (Exception e) {
+            lagMs = Double.NaN;
+            usable = false;
+            if (wasUsable) {
+                logger.warn("Replica unreachable, routing reads to the primary: {}", e.getMessage());
+            }
+            return;
+        }
+        if (wasUsable != usable) {
+            logger.info("Replica lag {} ms, routing reads to the {}", Math.round(lagMs), usable ? REPLICA : PRIMARY);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.myapp.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Runs the method's queries on the session-mode reporting pool instead of the transaction pooler
+// (see ReportingRoutingDataSource). The value is the query class ("export", "analytics", ...),
+// which picks the statement_timeout: reporting.statement-timeout.<class>.
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Reporting {
+    String value();
+}
@@ -0,0 +1,79 @@
+package com.example.myapp.config;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Sends connections taken inside a @Reporting method to the reporting pool (session mode: server-side
+// prepared statements and cursor fetches work there) and everything else to the OLTP DataSource.
+// Each reporting connection gets the statement_timeout of the method's query class when it is handed
+// out, since the session keeps whatever the previous borrower set.
+public class ReportingRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final String OLTP = "oltp";
+    private static final String REPORTING = "reporting";
+
+    private static final ThreadLocal<String> queryClass = new ThreadLocal<>();
+
+    private final Environment environment;
+    private final Duration defaultTimeout;
+    private final Map<String, Long> timeoutsMs = new ConcurrentHashMap<>();
+
+    public ReportingRoutingDataSource(DataSource oltp, DataSource reporting, Environment environment) {
+        this.environment = environment;
+        this.defaultTimeout = environment.getProperty("reporting.statement-timeout.default", Duration.class, Duration.ofMinutes(1));
+        setTargetDataSources(Map.of(OLTP, oltp, REPORTING, reporting));
+        setDefaultTargetDataSource(oltp);
+        afterPropertiesSet();
+    }
+
+    // Around every @Reporting method; a nested @Reporting call keeps the outer query class. Work that
+    // already holds an OLTP connection (an enclosing transaction) stays on it.
+    public static MethodInterceptor interceptor() {
+        return invocation -> {
+            if (queryClass.get() != null) {
+                return invocation.proceed();
+            }
+            queryClass.set(AnnotatedElementUtils.findMergedAnnotation(invocation.getMethod(), Reporting.class).value());
+            try {
+                return invocation.proceed();
+            } finally {
+                queryClass.remove();
+            }
+        };
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return queryClass.get() != null ? REPORTING : OLTP;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Connection connection = super.getConnection();
+        String current = queryClass.get();
+        if (current != null) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET statement_timeout = " + timeoutMs(current));
+            } catch (SQLException e) {
+                connection.close();
+                throw e;
+            }
+        }
+        return connection;
+    }
+
+    private long timeoutMs(String queryClass) {
+        return timeoutsMs.computeIfAbsent(queryClass, name -> environment
+                .getProperty("reporting.statement-timeout." + name, Duration.class, defaultTimeout).toMillis());
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.myapp.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+// Rows returned per repository method, next to the timers Boot already records for every call
+// (spring.data.repository.invocations): repository.rows{repository, method}. Scalar results
+// (counts, exists, modifying queries) are not recorded; streams are counted as they are consumed
+// and recorded when closed.
+@Configuration
+public class RepositoryMetricsConfig {
+
+    @Bean
+    public static BeanPostProcessor repositoryRowsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxy, information) -> proxy.addAdvice(new RowCounter(
+                                    information.getRepositoryInterface().getSimpleName(), meterRegistry))));
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static class RowCounter implements MethodInterceptor {
+        private final String repository;
+        private final ObjectProvider<MeterRegistry> meterRegistry;
+        private final Map<Method, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+        RowCounter(String repository, ObjectProvider<MeterRegistry> meterRegistry) {
+            this.repository = repository;
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            Object result = invocation.proceed();
+            Method method = invocation.getMethod();
+            if (result instanceof Stream<?> stream) {
+                AtomicLong rows = new AtomicLong();
+                return stream.peek(row -> rows.incrementAndGet()).onClose(() -> record(method, rows.get()));
+            }
+            if (result instanceof Collection<?> rows) {
+                record(method, rows.size());
+            } else if (result instanceof Slice<?> slice) {
+                record(method, slice.getNumberOfElements());
+            } else if (result instanceof Optional<?> row) {
+                record(method, row.isPresent() ? 1 : 0);
+            } else if (result != null && !isScalar(result.getClass())) {
+                record(method, 1);
+            } else if (result == null && method.getReturnType() != void.class && !isScalar(method.getReturnType())) {
+                record(method, 0);
+            }
+            return result;
+        }
+
+        private void record(Method method, long rows) {
+            summaries.computeIfAbsent(method, m -> DistributionSummary.builder("repository.rows")
+                    .description("Rows returned by a repository method")
+                    .baseUnit("rows")
+                    .tag("repository", repository)
+                    .tag("method", m.getName())
+                    .register(meterRegistry.getObject()))
+                    .record(rows);
+        }
+
+        private static boolean isScalar(Class<?> type) {
+            return type.isPrimitive() || Number.class.isAssignableFrom(type) || Boolean.class == type
+                    || CharSequence.class.isAssignableFrom(type);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.myapp.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+// Registered in logback-spring.xml. On a thread marked by SqlTracing, Hibernate's statement and
+// bind-parameter loggers are enabled whatever their configured level; everywhere else the decision
+// is left to the level. Runs on every logging call, so it is a thread-local read and nothing else
+// for untraced threads.
+public class SqlTraceTurboFilter extends TurboFilter {
+
+    public static final String SQL_LOGGER = "org.hibernate.SQL";
+    public static final String BIND_LOGGER = "org.hibernate.orm.jdbc.bind";
+
+    private static final ThreadLocal<Boolean> traced = new ThreadLocal<>();
+
+    static void begin() {
+        traced.set(Boolean.TRUE);
+    }
+
+    static void end() {
+        traced.remove();
+    }
+
+    static boolean isTraced() {
+        return traced.get() != null;
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (traced.get() == null) {
+            return FilterReply.NEUTRAL;
+        }
+        String name = logger.getName();
+        return SQL_LOGGER.equals(name) || BIND_LOGGER.equals(name) ? FilterReply.ACCEPT : FilterReply.NEUTRAL;
+    }
+}
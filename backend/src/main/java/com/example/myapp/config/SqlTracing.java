@@ -0,0 +1,123 @@
+package com.example.myapp.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+// Tags every request's log lines with a requestId (X-Request-Id or a generated one) and traces the
+// SQL and bind parameters of a sample of requests (logging.sql-trace.sample-rate) plus any request
+// sent with "X-Trace-Sql: true", whatever the Hibernate logger levels say.
+//
+// The rate can be changed at runtime: POST /actuator/sqltrace {"sampleRate": 0.5}. Tracing every
+// request is a logger level change: POST /actuator/loggers/org.hibernate.SQL {"configuredLevel": "DEBUG"}
+// (and org.hibernate.orm.jdbc.bind at TRACE for the parameters).
+// First, so the requestId is on the lines of every other filter too
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Endpoint(id = "sqltrace")
+public class SqlTracing extends OncePerRequestFilter {
+
+    public static final String TRACE_HEADER = "X-Trace-Sql";
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+    public static final String REQUEST_ID = "requestId";
+    public static final String SQL_TRACE = "sqlTrace";
+
+    private volatile double sampleRate;
+
+    public SqlTracing(@Value("${logging.sql-trace.sample-rate:0.01}") double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    @ReadOperation
+    public Map<String, Object> settings() {
+        return Map.of("sampleRate", sampleRate, "header", TRACE_HEADER);
+    }
+
+    @WriteOperation
+    public Map<String, Object> update(double sampleRate) {
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new InvalidEndpointRequestException("sampleRate must be between 0 and 1", "Invalid sampleRate");
+        }
+        this.sampleRate = sampleRate;
+        return settings();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String requestId = request.getHeader(REQUEST_ID_HEADER);
+        MDC.put(REQUEST_ID, requestId != null ? requestId : UUID.randomUUID().toString());
+        boolean traced = Boolean.parseBoolean(request.getHeader(TRACE_HEADER)) || sampled();
+        if (traced) {
+            // Marks the request's lines so a trace can be pulled out by requestId
+            MDC.put(SQL_TRACE, "true");
+            SqlTraceTurboFilter.begin();
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (traced) {
+                SqlTraceTurboFilter.end();
+                MDC.remove(SQL_TRACE);
+            }
+            MDC.remove(REQUEST_ID);
+        }
+    }
+
+    // Carries the current request's log context (requestId, sqlTrace) and SQL tracing over to work
+    // handed to another thread, so the lines it logs can still be pulled out by requestId
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        boolean traced = SqlTraceTurboFilter.isTraced();
+        return () -> {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            boolean previouslyTraced = SqlTraceTurboFilter.isTraced();
+            if (context != null) {
+                MDC.setContextMap(context);
+            } else {
+                MDC.clear();
+            }
+            if (traced) {
+                SqlTraceTurboFilter.begin();
+            } else {
+                SqlTraceTurboFilter.end();
+            }
+            try {
+                return task.get();
+            } finally {
+                if (previous != null) {
+                    MDC.setContextMap(previous);
+                } else {
+                    MDC.clear();
+                }
+                if (previouslyTraced) {
+                    SqlTraceTurboFilter.begin();
+                } else {
+                    SqlTraceTurboFilter.end();
+                }
+            }
+        };
+    }
+
+    private boolean sampled() {
+        double rate = sampleRate;
+        return rate > 0 && ThreadLocalRandom.current().nextDouble() < rate;
+    }
+}
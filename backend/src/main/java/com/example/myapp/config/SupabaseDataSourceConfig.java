@@ -2,27 +2,136 @@ package com.example.myapp.config;
 
 import javax.sql.DataSource;
 
+import java.util.Optional;
+
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
 
 @Configuration
 public class SupabaseDataSourceConfig {
-    
+
+    @Value("${datasource.primary.url:jdbc:postgresql://13.39.246.141:6543/postgres?ssl=true&sslmode=require&prepareThreshold=0&preparedStatementCacheQueries=0}")
+    private String primaryUrl;
+
+    @Value("${datasource.primary.username:postgres.gcftmbhqlkqcamiwjoky}")
+    private String primaryUsername;
+
+    @Value("${datasource.primary.password:Oujda@oujda}")
+    private String primaryPassword;
+
+    // Supabase's session-mode pooler: same host, one server connection per client connection for as
+    // long as it is open, so prepared statements and cursors survive between statements
+    @Value("${datasource.reporting.url:jdbc:postgresql://13.39.246.141:5432/postgres?ssl=true&sslmode=require}")
+    private String reportingUrl;
+
+    @Value("${datasource.reporting.pool-size:2}")
+    private int reportingPoolSize;
+
+    @Value("${datasource.replica.max-lag-ms:2000}")
+    private long replicaMaxLagMs;
+
+    @Value("${datasource.replica.probe-interval-ms:1000}")
+    private long replicaProbeIntervalMs;
+
     @Bean
-    @Primary
-    public DataSource dataSource() {
-        HikariConfig config = new HikariConfig();
-        config.setJdbcUrl("jdbc:postgresql://13.39.246.141:6543/postgres?ssl=true&sslmode=require&prepareThreshold=0&preparedStatementCacheQueries=0");
-        config.setUsername("postgres.gcftmbhqlkqcamiwjoky");
-        config.setPassword("Oujda@oujda");
+    public DbAdmissionGate primaryDataSource(MeterRegistry meterRegistry) {
+        HikariConfig config = poolConfig("primary", primaryUrl, primaryUsername, primaryPassword);
         config.setMaximumPoolSize(3); // Even smaller for Supabase
-        config.setConnectionTimeout(30000);
+        // Transaction pooler: server-side prepared statements would outlive the server connection
         config.addDataSourceProperty("cachePrepStmts", "false");
         config.addDataSourceProperty("useServerPrepStmts", "false");
-        return new HikariDataSource(config);
+        // Callers queue in front of the pool, sized to it, instead of inside getConnection()
+        return new DbAdmissionGate(new HikariDataSource(config), "primary", config.getMaximumPoolSize(),
+                config.getConnectionTimeout(), meterRegistry);
+    }
+
+    // Exports and analytics (@Reporting), kept small so they cannot starve the OLTP pool. Statements
+    // are prepared server-side from the first execution and cached per connection, and results are
+    // fetched through a cursor in chunks of defaultRowFetchSize (the methods run in a transaction,
+    // i.e. with autocommit off, which pgjdbc needs for that)
+    @Bean
+    public DbAdmissionGate reportingDataSource(MeterRegistry meterRegistry) {
+        HikariConfig config = poolConfig("reporting", reportingUrl, primaryUsername, primaryPassword);
+        config.setMaximumPoolSize(reportingPoolSize);
+        config.setMinimumIdle(0);
+        config.addDataSourceProperty("prepareThreshold", "1");
+        config.addDataSourceProperty("preparedStatementCacheQueries", "256");
+        config.addDataSourceProperty("defaultRowFetchSize", "500");
+        return new DbAdmissionGate(new HikariDataSource(config), "reporting", config.getMaximumPoolSize(),
+                config.getConnectionTimeout(), meterRegistry);
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor reportingAdvisor() {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(Reporting.class), ReportingRoutingDataSource.interceptor());
+        // Outside @Transactional, so the query class is set before any connection is taken
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    // Only when datasource.replica.url is set, e.g. by the replica-local profile
+    @Bean
+    @ConditionalOnProperty("datasource.replica.url")
+    public DbAdmissionGate replicaDataSource(@Value("${datasource.replica.url}") String url,
+                                             @Value("${datasource.replica.username}") String username,
+                                             @Value("${datasource.replica.password}") String password,
+                                             @Value("${datasource.replica.pool-size:3}") int poolSize,
+                                             MeterRegistry meterRegistry) {
+        HikariConfig config = poolConfig("replica", url, username, password);
+        config.setMaximumPoolSize(poolSize);
+        config.setReadOnly(true);
+        return new DbAdmissionGate(new HikariDataSource(config), "replica", config.getMaximumPoolSize(),
+                config.getConnectionTimeout(), meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty("datasource.replica.url")
+    public ReplicaRoutingDataSource routingDataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                                      @Qualifier("replicaDataSource") DataSource replica,
+                                                      ReadYourWrites readYourWrites, MeterRegistry meterRegistry) {
+        return new ReplicaRoutingDataSource(primary, replica, readYourWrites, replicaMaxLagMs,
+                replicaProbeIntervalMs, meterRegistry);
+    }
+
+    // What JPA and JdbcTemplate use. Hibernate takes a connection as soon as a transaction begins,
+    // before Spring marks it read-only; the lazy proxy holds the physical connection back until the
+    // first statement, so routingDataSource sees the flag and no pool slot is held for nothing.
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("reportingDataSource") DataSource reporting,
+                                 Optional<ReplicaRoutingDataSource> routing, Environment environment) {
+        DataSource oltp = routing.isPresent() ? routing.get() : primary;
+        return new LazyConnectionDataSourceProxy(new ReportingRoutingDataSource(oltp, reporting, environment));
+    }
+
+    private static HikariConfig poolConfig(String name, String url, String username, String password) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(name);
+        config.setJdbcUrl(url);
+        config.setUsername(username);
+        config.setPassword(password);
+        config.setConnectionTimeout(30000);
+        // Lets the driver collapse JDBC batches into multi-row INSERTs (one round trip per batch)
+        config.addDataSourceProperty("reWriteBatchedInserts", "true");
+        return config;
     }
-}
\ No newline at end of file
+}
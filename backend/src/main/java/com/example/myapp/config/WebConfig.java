@@ -1,15 +1,45 @@
 package com.example.myapp.config;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private CollectionETagInterceptor collectionETagInterceptor;
+
+    @Autowired
+    private BinaryFormats binaryFormats;
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**")
                 .allowedOrigins("http://localhost:80", "http://localhost")
                 .allowedMethods("GET", "POST", "PUT", "DELETE");
     }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(collectionETagInterceptor).addPathPatterns("/api/**");
+    }
+
+    // Accept: application/x-jackson-smile or application/cbor. Spring's defaults for these use a
+    // bare mapper; swap in ones configured like the JSON converter and keep them after it, so
+    // browsers and */* still get JSON.
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(converter -> converter instanceof MappingJackson2SmileHttpMessageConverter
+                || converter instanceof MappingJackson2CborHttpMessageConverter);
+        converters.add(new MappingJackson2SmileHttpMessageConverter(binaryFormats.smileMapper()));
+        converters.add(new MappingJackson2CborHttpMessageConverter(binaryFormats.cborMapper()));
+    }
 }
@@ -0,0 +1,22 @@
+package com.example.myapp.controller;
+
+import com.example.myapp.config.CollectionETag;
+import com.example.myapp.dto.ProjectAnalyticsDTO;
+import com.example.myapp.service.ProjectAnalyticsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/analytics")
+@CrossOrigin(origins = "*")
+public class AnalyticsController {
+
+    @Autowired
+    private ProjectAnalyticsService projectAnalyticsService;
+
+    @CollectionETag(value = {"project", "client", "department", "employee"}, perMonth = true)
+    @GetMapping("/projects")
+    public ProjectAnalyticsDTO getProjectAnalytics() {
+        return projectAnalyticsService.getProjectAnalytics();
+    }
+}
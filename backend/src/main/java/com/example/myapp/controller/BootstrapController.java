@@ -0,0 +1,50 @@
+package com.example.myapp.controller;
+
+import com.example.myapp.config.BinaryFormats;
+import com.example.myapp.service.BootstrapService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Map;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/bootstrap")
+@CrossOrigin(origins = "*", exposedHeaders = "Server-Timing")
+public class BootstrapController {
+
+    @Autowired
+    private BootstrapService bootstrapService;
+
+    @GetMapping
+    public Set<String> getPages() {
+        return bootstrapService.getPages();
+    }
+
+    // All of a page's lists in one document, e.g. {"employees": [...], "departments": [...], ...}.
+    // Per-section load times are in the Server-Timing header; unchanged data answers If-None-Match with 304.
+    @GetMapping("/{page}")
+    public ResponseEntity<Map<String, Object>> getBootstrap(@PathVariable String page, WebRequest request) {
+        if (!bootstrapService.supports(page)) {
+            return ResponseEntity.notFound().build();
+        }
+        String format = BinaryFormats.formatOf(request.getHeader(HttpHeaders.ACCEPT));
+        String etag = bootstrapService.etag(page, format);
+        if (etag != null && request.checkNotModified(etag)) {
+            return null;
+        }
+        BootstrapService.Result result = bootstrapService.load(page, format);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT);
+        if (result.getEtag() != null) {
+            response.eTag(result.getEtag());
+        }
+        return response
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .header("Server-Timing", result.serverTiming())
+                .body(result.getSections());
+    }
+}
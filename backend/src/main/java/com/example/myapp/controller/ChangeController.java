@@ -0,0 +1,30 @@
+package com.example.myapp.controller;
+
+import com.example.myapp.dto.ChangeBatchDTO;
+import com.example.myapp.service.ChangeFeed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/changes")
+@CrossOrigin(origins = "*")
+public class ChangeController {
+
+    @Autowired
+    private ChangeFeed changeFeed;
+
+    // Inserted, updated and deleted rows after ?since=<seq>; without since (or too far behind) resync is true
+    @GetMapping
+    public ChangeBatchDTO getChanges(@RequestParam(required = false) Long since, @RequestParam(required = false) Integer limit) {
+        return changeFeed.since(since, limit);
+    }
+
+    // Same feed pushed as server-sent events; EventSource resumes from Last-Event-ID after a reconnect
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@RequestParam(required = false) Long since,
+                                    @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return changeFeed.subscribe(lastEventId != null ? lastEventId : since);
+    }
+}
@@ -1,5 +1,8 @@
 package com.example.myapp.controller;
 
+import com.example.myapp.config.CollectionETag;
+import com.example.myapp.dto.CursorPage;
+import com.example.myapp.controller.EmployeeController.ErrorResponse;
 import com.example.myapp.model.Client;
 import com.example.myapp.service.ClientService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,11 +19,25 @@ public class ClientController {
     @Autowired
     private ClientService clientService;
     
+    @CollectionETag("client")
     @GetMapping
     public List<Client> getAllClients() {
         return clientService.getAllClients();
     }
     
+    // Keyset pagination: ?limit=N[&after=<cursor>], follow nextCursor until hasMore is false
+    @CollectionETag("client")
+    @GetMapping(params = "limit")
+    public ResponseEntity<?> getClientsPage(@RequestParam(required = false) String after, @RequestParam Integer limit) {
+        try {
+            CursorPage<Client> page = clientService.getClientsPage(after, limit);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("Invalid pagination request: ", e.getMessage()));
+        }
+    }
+    
+    @CollectionETag("client")
     @GetMapping("/{id}")
     public ResponseEntity<Client> getClientById(@PathVariable Integer id) {
         Optional<Client> client = clientService.getClientById(id);
@@ -28,12 +45,16 @@ public class ClientController {
     }
     
     @PostMapping
-    public Client createClient(@RequestBody Client client) {
-        return clientService.saveClient(client);
+    public ResponseEntity<?> createClient(@RequestBody Client client) {
+        try {
+            return ResponseEntity.ok(clientService.saveClient(client));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("Validation error: ", e.getMessage()));
+        }
     }
     
     @PutMapping("/{id}")
-    public ResponseEntity<Client> updateClient(@PathVariable Integer id, @RequestBody Client clientDetails) {
+    public ResponseEntity<?> updateClient(@PathVariable Integer id, @RequestBody Client clientDetails) {
         Optional<Client> clientOpt = clientService.getClientById(id);
         if (clientOpt.isPresent()) {
             Client client = clientOpt.get();
@@ -41,7 +62,11 @@ public class ClientController {
             client.setContactPerson(clientDetails.getContactPerson());
             client.setEmail(clientDetails.getEmail());
             client.setPhone(clientDetails.getPhone());
-            return ResponseEntity.ok(clientService.saveClient(client));
+            try {
+                return ResponseEntity.ok(clientService.saveClient(client));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().body(new ErrorResponse("Validation error: ", e.getMessage()));
+            }
         }
         return ResponseEntity.notFound().build();
     }
@@ -52,6 +77,7 @@ public class ClientController {
         return ResponseEntity.ok().build();
     }
     
+    @CollectionETag("client")
     @GetMapping("/search")
     public List<Client> searchClients(@RequestParam String name) {
         return clientService.searchClientsByName(name);
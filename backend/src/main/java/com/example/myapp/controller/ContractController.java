@@ -1,5 +1,7 @@
 package com.example.myapp.controller;
 
+import com.example.myapp.config.CollectionETag;
+import com.example.myapp.dto.CursorPage;
 import com.example.myapp.controller.EmployeeController.ErrorResponse;
 import com.example.myapp.model.Contract;
 import com.example.myapp.model.ContractStatus;
@@ -20,11 +22,25 @@ public class ContractController {
     @Autowired
     private ContractService contractService;
    
+    @CollectionETag("contract")
     @GetMapping
     public List<Contract> getAllContracts() {
         return contractService.getAllContracts();
     }
+    
+    // Keyset pagination: ?limit=N[&after=<cursor>], follow nextCursor until hasMore is false
+    @CollectionETag("contract")
+    @GetMapping(params = "limit")
+    public ResponseEntity<?> getContractsPage(@RequestParam(required = false) String after, @RequestParam Integer limit) {
+        try {
+            CursorPage<Contract> page = contractService.getContractsPage(after, limit);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("Invalid pagination request: ", e.getMessage()));
+        }
+    }
    
+    @CollectionETag("contract")
     @GetMapping("/{id}")
     public ResponseEntity<Contract> getContractById(@PathVariable Integer id) {
         Optional<Contract> contract = contractService.getContractById(id);
@@ -103,16 +119,19 @@ public class ContractController {
         return ResponseEntity.notFound().build();
     }
    
+    @CollectionETag("contract")
     @GetMapping("/employee/{employeeId}")
     public List<Contract> getContractsByEmployee(@PathVariable Integer employeeId) {
         return contractService.getContractsByEmployee(employeeId);
     }
    
+    @CollectionETag("contract")
     @GetMapping("/type/{contractType}")
     public List<Contract> getContractsByType(@PathVariable ContractType contractType) {
         return contractService.getContractsByType(contractType);
     }
    
+    @CollectionETag("contract")
     @GetMapping("/employee/{employeeId}/active")
     public ResponseEntity<Contract> getActiveContractByEmployee(@PathVariable Integer employeeId) {
         Contract contract = contractService.getActiveContractByEmployee(employeeId);
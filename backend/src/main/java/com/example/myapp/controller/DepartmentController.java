@@ -1,5 +1,8 @@
 package com.example.myapp.controller;
 
+import com.example.myapp.config.CollectionETag;
+import com.example.myapp.dto.CursorPage;
+import com.example.myapp.controller.EmployeeController.ErrorResponse;
 import com.example.myapp.dto.DepartmentInfoDTO;
 import com.example.myapp.model.Department;
 import com.example.myapp.service.DepartmentService;
@@ -17,11 +20,25 @@ public class DepartmentController {
     @Autowired
     private DepartmentService departmentService;
     
+    @CollectionETag("department")
     @GetMapping
     public List<Department> getAllDepartments() {
         return departmentService.getAllDepartments();
     }
     
+    // Keyset pagination: ?limit=N[&after=<cursor>], follow nextCursor until hasMore is false
+    @CollectionETag("department")
+    @GetMapping(params = "limit")
+    public ResponseEntity<?> getDepartmentsPage(@RequestParam(required = false) String after, @RequestParam Integer limit) {
+        try {
+            CursorPage<Department> page = departmentService.getDepartmentsPage(after, limit);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("Invalid pagination request: ", e.getMessage()));
+        }
+    }
+    
+    @CollectionETag("department")
     @GetMapping("/{id}")
     public ResponseEntity<Department> getDepartmentById(@PathVariable Integer id) {
         Optional<Department> department = departmentService.getDepartmentById(id);
@@ -35,17 +52,12 @@ public class DepartmentController {
     
     @PutMapping("/{id}")
     public ResponseEntity<Department> updateDepartment(@PathVariable Integer id, @RequestBody Department departmentDetails) {
-        Optional<Department> deptOpt = departmentService.getDepartmentById(id);
-        if (deptOpt.isPresent()) {
-            Department department = deptOpt.get();
-            department.setDepartmentName(departmentDetails.getDepartmentName());
-            department.setDescription(departmentDetails.getDescription());
-            department.setHeadEmployeeId(departmentDetails.getHeadEmployeeId());
-            return ResponseEntity.ok(departmentService.saveDepartment(department));
-        }
-        return ResponseEntity.notFound().build();
+        return departmentService.updateDepartment(id, departmentDetails)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
     }
     
+    @CollectionETag({"department", "employee"})
     @GetMapping("/with-managers")
     public List<DepartmentInfoDTO> getDepartmentsWithManagers() {
         return departmentService.getDepartmentsWithManagerNames();
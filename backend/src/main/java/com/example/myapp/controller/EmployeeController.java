@@ -1,11 +1,18 @@
 package com.example.myapp.controller;
 
+import com.example.myapp.config.CollectionETag;
+import com.example.myapp.dto.CursorPage;
+import com.example.myapp.dto.ImportReportDTO;
+import com.example.myapp.dto.OrgChartDTO;
 import com.example.myapp.model.Employee;
 import com.example.myapp.model.EmployeeStatus;
 import com.example.myapp.model.ContractType;
 import com.example.myapp.model.ContractStatus;
 import com.example.myapp.service.EmployeeService;
+import com.example.myapp.service.SparseFieldsService;
 import com.example.myapp.service.EmployeeService.ContractData;
+import com.example.myapp.service.EmployeeImportService;
+import com.example.myapp.service.OrgChart;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -13,6 +20,7 @@ import org.springframework.web.bind.annotation.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
@@ -28,20 +36,69 @@ public class EmployeeController {
     @Autowired
     private EmployeeService employeeService;
     
+    @Autowired
+    private SparseFieldsService sparseFieldsService;
+    
+    @Autowired
+    private EmployeeImportService employeeImportService;
+    
+    @Autowired
+    private OrgChart orgChart;
+    
+    @CollectionETag("employee")
     @GetMapping
     public List<Employee> getAllEmployees() {
         return employeeService.getAllEmployees();
     }
     
+    // Keyset pagination: ?limit=N[&after=<cursor>], follow nextCursor until hasMore is false
+    @CollectionETag("employee")
+    @GetMapping(params = {"limit", "!fields"})
+    public ResponseEntity<?> getEmployeesPage(@RequestParam(required = false) String after, @RequestParam Integer limit) {
+        try {
+            CursorPage<Employee> page = employeeService.getEmployeesPage(after, limit);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("Invalid pagination request: ", e.getMessage()));
+        }
+    }
+    
+    // Sparse fieldsets: ?fields=a,b[&limit=N&after=<cursor>] selects only those columns (plus the ID)
+    @CollectionETag("employee")
+    @GetMapping(params = "fields")
+    public ResponseEntity<?> getEmployeesFields(@RequestParam String fields, @RequestParam(required = false) String after,
+                                                @RequestParam(required = false) Integer limit) {
+        try {
+            if (limit == null) {
+                return ResponseEntity.ok(sparseFieldsService.findAll(Employee.class, fields));
+            }
+            return ResponseEntity.ok(sparseFieldsService.findPage(Employee.class, fields, after, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("Invalid fields request: ", e.getMessage()));
+        }
+    }
+    
+    @CollectionETag("employee")
     @GetMapping("/{id}")
     public ResponseEntity<Employee> getEmployeeById(@PathVariable Integer id) {
         Optional<Employee> employee = employeeService.getEmployeeById(id);
         return employee.map(ResponseEntity::ok).orElse(ResponseEntity.notFound().build());
     }
     
+    // Management chain, span of control, headcount and transitive reports (down to ?depth= levels).
+    // Not ETagged, like search: the in-memory chart is updated after commit.
+    @GetMapping("/{id}/org")
+    public ResponseEntity<?> getOrgChart(@PathVariable Integer id, @RequestParam(required = false) Integer depth) {
+        if (depth != null && depth < 1) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("Invalid org chart request: ", "depth must be at least 1"));
+        }
+        Optional<OrgChartDTO> org = orgChart.describe(id, depth);
+        return org.<ResponseEntity<?>>map(ResponseEntity::ok).orElse(ResponseEntity.notFound().build());
+    }
+    
     @PostMapping
     public ResponseEntity<?> createEmployee(@RequestBody EmployeeWithContractRequest request) {
-        logger.info("Received request to create new employee with data: {}", request);
+        logger.info("Received request to create new employee in department {}", request.getDepartmentId());
         try {
             // Create Employee object
             logger.debug("Creating Employee object from request data");
@@ -74,7 +131,7 @@ public class EmployeeController {
             logger.debug("Created Contract data: {}", contractData);
             
             // Save employee with contract in a transaction
-            logger.info("Attempting to save employee with contract");
+            logger.debug("Attempting to save employee with contract");
             Employee savedEmployee = employeeService.saveEmployeeWithContract(employee, contractData);
             logger.info("Successfully saved employee with ID: {}", savedEmployee.getEmployeeId());
             
@@ -91,6 +148,21 @@ public class EmployeeController {
         }
     }
     
+    // Bulk onboarding: CSV with a header row using the same field names as the JSON body above
+    @PostMapping(value = "/import", consumes = {"text/csv", "text/plain", "application/octet-stream"})
+    public ResponseEntity<?> importEmployees(InputStream body) {
+        try {
+            ImportReportDTO report = employeeImportService.importCsv(body);
+            return ResponseEntity.ok(report);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("Invalid import file: ", e.getMessage()));
+        } catch (Exception e) {
+            logger.error("Employee import failed", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse("Failed to import employees: ", e.getMessage()));
+        }
+    }
+    
     @PutMapping("/{id}")
     public ResponseEntity<Employee> updateEmployee(@PathVariable Integer id, @RequestBody Employee employeeDetails) {
         Optional<Employee> employeeOpt = employeeService.getEmployeeById(id);
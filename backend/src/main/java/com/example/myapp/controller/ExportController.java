@@ -0,0 +1,45 @@
+package com.example.myapp.controller;
+
+import com.example.myapp.config.BinaryFormats;
+import com.example.myapp.service.ExportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/export")
+@CrossOrigin(origins = "*")
+public class ExportController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final MediaType CBOR_SEQUENCE = MediaType.parseMediaType("application/cbor-seq");
+
+    @Autowired
+    private ExportService exportService;
+
+    @GetMapping
+    public Set<String> getExportableEntities() {
+        return exportService.getExportableEntities();
+    }
+
+    // NDJSON by default; Accept: application/x-jackson-smile or application/cbor streams the same rows in binary
+    @GetMapping("/{entity}")
+    public ResponseEntity<StreamingResponseBody> exportEntity(@PathVariable String entity,
+                                                              @RequestHeader(value = "Accept", required = false) String accept) {
+        if (!exportService.supports(entity)) {
+            return ResponseEntity.notFound().build();
+        }
+        String format = BinaryFormats.formatOf(accept);
+        MediaType contentType = BinaryFormats.SMILE_FORMAT.equals(format) ? BinaryFormats.SMILE
+                : BinaryFormats.CBOR_FORMAT.equals(format) ? CBOR_SEQUENCE : NDJSON;
+        String extension = BinaryFormats.JSON_FORMAT.equals(format) ? "ndjson" : format;
+        StreamingResponseBody body = out -> exportService.export(entity, format, out);
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header("Content-Disposition", "attachment; filename=\"" + entity + "." + extension + "\"")
+                .body(body);
+    }
+}
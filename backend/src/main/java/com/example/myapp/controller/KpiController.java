@@ -0,0 +1,28 @@
+package com.example.myapp.controller;
+
+import com.example.myapp.dto.KpiTileDTO;
+import com.example.myapp.service.KpiService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/kpis")
+@CrossOrigin(origins = "*")
+public class KpiController {
+
+    @Autowired
+    private KpiService kpiService;
+
+    @GetMapping
+    public List<KpiTileDTO> getKpiTiles() {
+        return kpiService.getTiles();
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refreshKpiTiles() {
+        kpiService.requestRefresh();
+        return ResponseEntity.accepted().build();
+    }
+}
@@ -1,8 +1,12 @@
 package com.example.myapp.controller;
 
+import com.example.myapp.config.CollectionETag;
+import com.example.myapp.dto.CursorPage;
+import com.example.myapp.controller.EmployeeController.ErrorResponse;
 import com.example.myapp.model.Project;
 import com.example.myapp.model.ProjectStatus;
 import com.example.myapp.service.ProjectService;
+import com.example.myapp.service.SparseFieldsService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -17,11 +21,43 @@ public class ProjectController {
     @Autowired
     private ProjectService projectService;
     
+    @Autowired
+    private SparseFieldsService sparseFieldsService;
+    
+    @CollectionETag("project")
     @GetMapping
     public List<Project> getAllProjects() {
         return projectService.getAllProjects();
     }
     
+    // Keyset pagination: ?limit=N[&after=<cursor>], follow nextCursor until hasMore is false
+    @CollectionETag("project")
+    @GetMapping(params = {"limit", "!fields"})
+    public ResponseEntity<?> getProjectsPage(@RequestParam(required = false) String after, @RequestParam Integer limit) {
+        try {
+            CursorPage<Project> page = projectService.getProjectsPage(after, limit);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("Invalid pagination request: ", e.getMessage()));
+        }
+    }
+    
+    // Sparse fieldsets: ?fields=a,b[&limit=N&after=<cursor>] selects only those columns (plus the ID)
+    @CollectionETag("project")
+    @GetMapping(params = "fields")
+    public ResponseEntity<?> getProjectsFields(@RequestParam String fields, @RequestParam(required = false) String after,
+                                               @RequestParam(required = false) Integer limit) {
+        try {
+            if (limit == null) {
+                return ResponseEntity.ok(sparseFieldsService.findAll(Project.class, fields));
+            }
+            return ResponseEntity.ok(sparseFieldsService.findPage(Project.class, fields, after, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("Invalid fields request: ", e.getMessage()));
+        }
+    }
+    
+    @CollectionETag("project")
     @GetMapping("/{id}")
     public ResponseEntity<Project> getProjectById(@PathVariable Integer id) {
         Optional<Project> project = projectService.getProjectById(id);
@@ -54,11 +90,13 @@ public class ProjectController {
         return ResponseEntity.ok().build();
     }
     
+    @CollectionETag("project")
     @GetMapping("/client/{clientId}")
     public List<Project> getProjectsByClient(@PathVariable Integer clientId) {
         return projectService.getProjectsByClient(clientId);
     }
     
+    @CollectionETag("project")
     @GetMapping("/status/{status}")
     public List<Project> getProjectsByStatus(@PathVariable ProjectStatus status) {
         return projectService.getProjectsByStatus(status);
@@ -0,0 +1,23 @@
+package com.example.myapp.controller;
+
+import com.example.myapp.dto.SearchResultDTO;
+import com.example.myapp.service.SearchIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.*;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/search")
+@CrossOrigin(origins = "*")
+public class SearchController {
+
+    @Autowired
+    private SearchIndex searchIndex;
+
+    // Typeahead across employees, clients, projects, tasks and tickets: ?q=<text>[&limit=N].
+    // Not ETagged: the index catches up only after commit, later than the collection versions.
+    @GetMapping
+    public List<SearchResultDTO> search(@RequestParam String q, @RequestParam(required = false) Integer limit) {
+        return searchIndex.search(q, limit);
+    }
+}
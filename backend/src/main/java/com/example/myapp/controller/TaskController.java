@@ -1,8 +1,12 @@
 package com.example.myapp.controller;
 
+import com.example.myapp.config.CollectionETag;
+import com.example.myapp.dto.CursorPage;
+import com.example.myapp.controller.EmployeeController.ErrorResponse;
 import com.example.myapp.model.Task;
 import com.example.myapp.model.TaskStatus;
 import com.example.myapp.service.TaskService;
+import com.example.myapp.service.SparseFieldsService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -17,11 +21,43 @@ public class TaskController {
     @Autowired
     private TaskService taskService;
     
+    @Autowired
+    private SparseFieldsService sparseFieldsService;
+    
+    @CollectionETag("task")
     @GetMapping
     public List<Task> getAllTasks() {
         return taskService.getAllTasks();
     }
     
+    // Keyset pagination: ?limit=N[&after=<cursor>], follow nextCursor until hasMore is false
+    @CollectionETag("task")
+    @GetMapping(params = {"limit", "!fields"})
+    public ResponseEntity<?> getTasksPage(@RequestParam(required = false) String after, @RequestParam Integer limit) {
+        try {
+            CursorPage<Task> page = taskService.getTasksPage(after, limit);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("Invalid pagination request: ", e.getMessage()));
+        }
+    }
+    
+    // Sparse fieldsets: ?fields=a,b[&limit=N&after=<cursor>] selects only those columns (plus the ID)
+    @CollectionETag("task")
+    @GetMapping(params = "fields")
+    public ResponseEntity<?> getTasksFields(@RequestParam String fields, @RequestParam(required = false) String after,
+                                            @RequestParam(required = false) Integer limit) {
+        try {
+            if (limit == null) {
+                return ResponseEntity.ok(sparseFieldsService.findAll(Task.class, fields));
+            }
+            return ResponseEntity.ok(sparseFieldsService.findPage(Task.class, fields, after, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("Invalid fields request: ", e.getMessage()));
+        }
+    }
+    
+    @CollectionETag("task")
     @GetMapping("/{id}")
     public ResponseEntity<Task> getTaskById(@PathVariable Integer id) {
         Optional<Task> task = taskService.getTaskById(id);
@@ -54,11 +90,13 @@ public class TaskController {
         return ResponseEntity.ok().build();
     }
     
+    @CollectionETag("task")
     @GetMapping("/project/{projectId}")
     public List<Task> getTasksByProject(@PathVariable Integer projectId) {
         return taskService.getTasksByProject(projectId);
     }
     
+    @CollectionETag("task")
     @GetMapping("/employee/{employeeId}")
     public List<Task> getTasksByEmployee(@PathVariable Integer employeeId) {
         return taskService.getTasksByEmployee(employeeId);
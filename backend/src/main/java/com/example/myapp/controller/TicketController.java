@@ -1,8 +1,12 @@
 package com.example.myapp.controller;
 
+import com.example.myapp.config.CollectionETag;
+import com.example.myapp.dto.CursorPage;
+import com.example.myapp.controller.EmployeeController.ErrorResponse;
 import com.example.myapp.model.Ticket;
 import com.example.myapp.model.TicketStatus;
 import com.example.myapp.service.TicketService;
+import com.example.myapp.service.SparseFieldsService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -17,11 +21,43 @@ public class TicketController {
     @Autowired
     private TicketService ticketService;
     
+    @Autowired
+    private SparseFieldsService sparseFieldsService;
+    
+    @CollectionETag("ticket")
     @GetMapping
     public List<Ticket> getAllTickets() {
         return ticketService.getAllTickets();
     }
     
+    // Keyset pagination: ?limit=N[&after=<cursor>], follow nextCursor until hasMore is false
+    @CollectionETag("ticket")
+    @GetMapping(params = {"limit", "!fields"})
+    public ResponseEntity<?> getTicketsPage(@RequestParam(required = false) String after, @RequestParam Integer limit) {
+        try {
+            CursorPage<Ticket> page = ticketService.getTicketsPage(after, limit);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("Invalid pagination request: ", e.getMessage()));
+        }
+    }
+    
+    // Sparse fieldsets: ?fields=a,b[&limit=N&after=<cursor>] selects only those columns (plus the ID)
+    @CollectionETag("ticket")
+    @GetMapping(params = "fields")
+    public ResponseEntity<?> getTicketsFields(@RequestParam String fields, @RequestParam(required = false) String after,
+                                              @RequestParam(required = false) Integer limit) {
+        try {
+            if (limit == null) {
+                return ResponseEntity.ok(sparseFieldsService.findAll(Ticket.class, fields));
+            }
+            return ResponseEntity.ok(sparseFieldsService.findPage(Ticket.class, fields, after, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("Invalid fields request: ", e.getMessage()));
+        }
+    }
+    
+    @CollectionETag("ticket")
     @GetMapping("/{id}")
     public ResponseEntity<Ticket> getTicketById(@PathVariable Integer id) {
         Optional<Ticket> ticket = ticketService.getTicketById(id);
@@ -53,11 +89,13 @@ public class TicketController {
         return ResponseEntity.ok().build();
     }
     
+    @CollectionETag("ticket")
     @GetMapping("/client/{clientId}")
     public List<Ticket> getTicketsByClient(@PathVariable Integer clientId) {
         return ticketService.getTicketsByClient(clientId);
     }
     
+    @CollectionETag("ticket")
     @GetMapping("/employee/{employeeId}")
     public List<Ticket> getTicketsByEmployee(@PathVariable Integer employeeId) {
         return ticketService.getTicketsByEmployee(employeeId);
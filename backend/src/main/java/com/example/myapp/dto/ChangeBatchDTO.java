@@ -0,0 +1,22 @@
+package com.example.myapp.dto;
+
+import java.util.List;
+
+public class ChangeBatchDTO {
+    private long seq; // pass back as ?since= on the next call
+    private boolean resync; // the requested changes are no longer buffered, reload everything first
+    private boolean hasMore;
+    private List<ChangeDTO> changes;
+
+    public ChangeBatchDTO(long seq, boolean resync, boolean hasMore, List<ChangeDTO> changes) {
+        this.seq = seq;
+        this.resync = resync;
+        this.hasMore = hasMore;
+        this.changes = changes;
+    }
+
+    public long getSeq() { return seq; }
+    public boolean isResync() { return resync; }
+    public boolean isHasMore() { return hasMore; }
+    public List<ChangeDTO> getChanges() { return changes; }
+}
@@ -0,0 +1,36 @@
+package com.example.myapp.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.time.Instant;
+
+public class ChangeDTO {
+    public static final String INSERT = "insert";
+    public static final String UPDATE = "update";
+    public static final String DELETE = "delete";
+    // Too many rows changed at once (bulk import), reload the whole entity list
+    public static final String RESYNC = "resync";
+
+    private long seq;
+    private String entity;
+    private String op;
+    private Object id;
+    private Instant at;
+    private JsonNode data; // row as returned by the entity's own endpoints; null for delete and resync
+
+    public ChangeDTO(long seq, String entity, String op, Object id, Instant at, JsonNode data) {
+        this.seq = seq;
+        this.entity = entity;
+        this.op = op;
+        this.id = id;
+        this.at = at;
+        this.data = data;
+    }
+
+    public long getSeq() { return seq; }
+    public String getEntity() { return entity; }
+    public String getOp() { return op; }
+    public Object getId() { return id; }
+    public Instant getAt() { return at; }
+    public JsonNode getData() { return data; }
+}
@@ -0,0 +1,25 @@
+package com.example.myapp.dto;
+
+import java.time.Instant;
+
+public class KpiTileDTO {
+    private String tile;
+    private String source;
+    private long value;
+    private Instant refreshedAt;
+    private long stalenessSeconds;
+
+    public KpiTileDTO(String tile, String source, long value, Instant refreshedAt, long stalenessSeconds) {
+        this.tile = tile;
+        this.source = source;
+        this.value = value;
+        this.refreshedAt = refreshedAt;
+        this.stalenessSeconds = stalenessSeconds;
+    }
+
+    public String getTile() { return tile; }
+    public String getSource() { return source; }
+    public long getValue() { return value; }
+    public Instant getRefreshedAt() { return refreshedAt; }
+    public long getStalenessSeconds() { return stalenessSeconds; }
+}
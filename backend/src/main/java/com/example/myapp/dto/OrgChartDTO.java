@@ -0,0 +1,46 @@
+package com.example.myapp.dto;
+
+import java.util.List;
+
+public class OrgChartDTO {
+    private int employeeId;
+    private List<Integer> managementChain; // direct manager first, top of the hierarchy last
+    private int spanOfControl;
+    private int headcount; // all transitive reports, excluding the employee
+    private Integer depth;
+    private List<OrgNode> reports;
+
+    public OrgChartDTO(int employeeId, List<Integer> managementChain, int spanOfControl, int headcount,
+                       Integer depth, List<OrgNode> reports) {
+        this.employeeId = employeeId;
+        this.managementChain = managementChain;
+        this.spanOfControl = spanOfControl;
+        this.headcount = headcount;
+        this.depth = depth;
+        this.reports = reports;
+    }
+
+    public int getEmployeeId() { return employeeId; }
+    public List<Integer> getManagementChain() { return managementChain; }
+    public int getSpanOfControl() { return spanOfControl; }
+    public int getHeadcount() { return headcount; }
+    public Integer getDepth() { return depth; }
+    public List<OrgNode> getReports() { return reports; }
+
+    // Reports are listed in depth-first order, so each node follows its manager
+    public static class OrgNode {
+        private int employeeId;
+        private int managerId;
+        private int level; // 1 = direct report
+
+        public OrgNode(int employeeId, int managerId, int level) {
+            this.employeeId = employeeId;
+            this.managerId = managerId;
+            this.level = level;
+        }
+
+        public int getEmployeeId() { return employeeId; }
+        public int getManagerId() { return managerId; }
+        public int getLevel() { return level; }
+    }
+}
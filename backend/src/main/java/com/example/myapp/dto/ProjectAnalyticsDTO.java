@@ -0,0 +1,152 @@
+package com.example.myapp.dto;
+
+import java.util.List;
+
+public class ProjectAnalyticsDTO {
+    private long totalProjects;
+    private int successRate;
+    private List<StatusCount> statusDistribution;
+    private List<ClientStats> clientAnalysis;
+    private List<DepartmentStats> departmentPerformance;
+    private List<MonthStats> timelineAnalysis;
+    private List<QuarterStats> performanceTrends;
+
+    public ProjectAnalyticsDTO(long totalProjects, int successRate, List<StatusCount> statusDistribution,
+                               List<ClientStats> clientAnalysis, List<DepartmentStats> departmentPerformance,
+                               List<MonthStats> timelineAnalysis, List<QuarterStats> performanceTrends) {
+        this.totalProjects = totalProjects;
+        this.successRate = successRate;
+        this.statusDistribution = statusDistribution;
+        this.clientAnalysis = clientAnalysis;
+        this.departmentPerformance = departmentPerformance;
+        this.timelineAnalysis = timelineAnalysis;
+        this.performanceTrends = performanceTrends;
+    }
+
+    public long getTotalProjects() { return totalProjects; }
+    public int getSuccessRate() { return successRate; }
+    public List<StatusCount> getStatusDistribution() { return statusDistribution; }
+    public List<ClientStats> getClientAnalysis() { return clientAnalysis; }
+    public List<DepartmentStats> getDepartmentPerformance() { return departmentPerformance; }
+    public List<MonthStats> getTimelineAnalysis() { return timelineAnalysis; }
+    public List<QuarterStats> getPerformanceTrends() { return performanceTrends; }
+
+    // Integer percentage rounded the same way as the dashboard (Math.round)
+    public static int percentage(long part, long total) {
+        return total > 0 ? (int) Math.round(part * 100.0 / total) : 0;
+    }
+
+    public static class StatusCount {
+        private String name;
+        private long value;
+        private int percentage;
+
+        public StatusCount(String name, long value, int percentage) {
+            this.name = name;
+            this.value = value;
+            this.percentage = percentage;
+        }
+
+        public String getName() { return name; }
+        public long getValue() { return value; }
+        public int getPercentage() { return percentage; }
+    }
+
+    public static class ClientStats {
+        private Integer clientId;
+        private String name;
+        private long totalProjects;
+        private long completedProjects;
+        private long activeProjects;
+        private int successRate;
+        private long valueScore;
+
+        public ClientStats(Integer clientId, String name, long totalProjects, long completedProjects, long activeProjects) {
+            this.clientId = clientId;
+            this.name = name;
+            this.totalProjects = totalProjects;
+            this.completedProjects = completedProjects;
+            this.activeProjects = activeProjects;
+            this.successRate = percentage(completedProjects, totalProjects);
+            this.valueScore = totalProjects * 10 + completedProjects * 15 + activeProjects * 5;
+        }
+
+        public Integer getClientId() { return clientId; }
+        public String getName() { return name; }
+        public long getTotalProjects() { return totalProjects; }
+        public long getCompletedProjects() { return completedProjects; }
+        public long getActiveProjects() { return activeProjects; }
+        public int getSuccessRate() { return successRate; }
+        public long getValueScore() { return valueScore; }
+    }
+
+    public static class DepartmentStats {
+        private Integer departmentId;
+        private String name;
+        private long employees;
+        private long totalProjects;
+        private long completedProjects;
+        private long activeProjects;
+        private int successRate;
+        private double projectsPerEmployee;
+
+        public DepartmentStats(Integer departmentId, String name, long employees,
+                               long totalProjects, long completedProjects, long activeProjects) {
+            this.departmentId = departmentId;
+            this.name = name;
+            this.employees = employees;
+            this.totalProjects = totalProjects;
+            this.completedProjects = completedProjects;
+            this.activeProjects = activeProjects;
+            this.successRate = percentage(completedProjects, totalProjects);
+            this.projectsPerEmployee = employees > 0 ? Math.round(totalProjects * 10.0 / employees) / 10.0 : 0;
+        }
+
+        public Integer getDepartmentId() { return departmentId; }
+        public String getName() { return name; }
+        public long getEmployees() { return employees; }
+        public long getTotalProjects() { return totalProjects; }
+        public long getCompletedProjects() { return completedProjects; }
+        public long getActiveProjects() { return activeProjects; }
+        public int getSuccessRate() { return successRate; }
+        public double getProjectsPerEmployee() { return projectsPerEmployee; }
+    }
+
+    public static class MonthStats {
+        private String month; // yyyy-MM
+        private long projectsStarted;
+        private long projectsCompleted;
+        private long cumulativeProjects;
+
+        public MonthStats(String month, long projectsStarted, long projectsCompleted, long cumulativeProjects) {
+            this.month = month;
+            this.projectsStarted = projectsStarted;
+            this.projectsCompleted = projectsCompleted;
+            this.cumulativeProjects = cumulativeProjects;
+        }
+
+        public String getMonth() { return month; }
+        public long getProjectsStarted() { return projectsStarted; }
+        public long getProjectsCompleted() { return projectsCompleted; }
+        public long getCumulativeProjects() { return cumulativeProjects; }
+    }
+
+    public static class QuarterStats {
+        private String quarter; // "Q3 2025"
+        private long projectsStarted;
+        private long projectsCompleted;
+        private int successRate;
+
+        public QuarterStats(String quarter, long projectsStarted, long projectsCompleted) {
+            this.quarter = quarter;
+            this.projectsStarted = projectsStarted;
+            this.projectsCompleted = projectsCompleted;
+            this.successRate = percentage(projectsCompleted, projectsStarted);
+        }
+
+        public String getQuarter() { return quarter; }
+        public long getProjectsStarted() { return projectsStarted; }
+        public long getProjectsCompleted() { return projectsCompleted; }
+        public int getSuccessRate() { return successRate; }
+    }
+}
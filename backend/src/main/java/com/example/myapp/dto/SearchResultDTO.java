@@ -0,0 +1,23 @@
+package com.example.myapp.dto;
+
+public class SearchResultDTO {
+    private String type;
+    private Integer id;
+    private String label;
+    private String detail;
+    private double score;
+
+    public SearchResultDTO(String type, Integer id, String label, String detail, double score) {
+        this.type = type;
+        this.id = id;
+        this.label = label;
+        this.detail = detail;
+        this.score = score;
+    }
+
+    public String getType() { return type; }
+    public Integer getId() { return id; }
+    public String getLabel() { return label; }
+    public String getDetail() { return detail; }
+    public double getScore() { return score; }
+}
@@ -2,12 +2,18 @@ package com.example.myapp.model;
 
 
 import jakarta.persistence.*;
+import com.example.myapp.config.EntityChangeListener;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 import java.util.List;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "client")
+@EntityListeners(EntityChangeListener.class)
 @Table(name = "clients")
 public class Client {
     @Id
@@ -1,6 +1,7 @@
 package com.example.myapp.model;
 
 import jakarta.persistence.*;
+import com.example.myapp.config.EntityChangeListener;
 import com.example.myapp.config.ContractStatusConverter;
 import com.example.myapp.config.ContractTypeConverter;
 import java.math.BigDecimal;
@@ -9,9 +10,16 @@ import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
 @Entity
+@EntityListeners(EntityChangeListener.class)
 @Table(name = "contracts")
 public class Contract {
+    // Same pooled allocation as Employee
+    public static final String ID_SEQUENCE = "contract_id_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     @Column(name = "contract_id")
     private Integer contractId;
     
@@ -44,7 +52,7 @@ public class Contract {
     @Column(name = "status", nullable = false)
     private ContractStatus status = ContractStatus.Active;
     
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "employee_id", insertable = false, updatable = false)
     @JsonIgnore
     private Employee employee;
@@ -1,12 +1,18 @@
 package com.example.myapp.model;
 
 import jakarta.persistence.*;
+import com.example.myapp.config.EntityChangeListener;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.List;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "department")
+@EntityListeners(EntityChangeListener.class)
 @Table(name = "departments")
 public class Department {
     @Id
@@ -23,7 +29,7 @@ public class Department {
     @Column(name = "head_employee_id")
     private Integer headEmployeeId;
     
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "head_employee_id", insertable = false, updatable = false)
     @JsonBackReference
     private Employee headEmployee;
@@ -1,6 +1,9 @@
 package com.example.myapp.model;
 
 import jakarta.persistence.*;
+import com.example.myapp.config.EntityChangeListener;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import com.example.myapp.config.EmployeeStatusConverter;
 import java.time.LocalDate;
 import java.util.List;
@@ -9,9 +12,18 @@ import com.fasterxml.jackson.annotation.JsonManagedReference;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "employee")
+@EntityListeners(EntityChangeListener.class)
 @Table(name = "employees")
 public class Employee {
+    // Pooled-lo sequence: each nextval reserves ID_ALLOCATION_SIZE ids that Hibernate hands out in memory
+    public static final String ID_SEQUENCE = "employee_id_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     @Column(name = "employee_id")
     private Integer employeeId;
     
@@ -46,12 +58,12 @@ public class Employee {
     @Column(name = "sexe")
     private String sexe;
     
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "department_id", insertable = false, updatable = false)
     @JsonBackReference
     private Department department;
     
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "manager_id", insertable = false, updatable = false)
     @JsonBackReference
     private Employee manager;
@@ -24,7 +24,7 @@ public class EmployeeHistory {
     @Column(name = "event_date", nullable = false)
     private LocalDate eventDate;
     
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "employee_id", insertable = false, updatable = false)
     @JsonIgnore
     private Employee employee;
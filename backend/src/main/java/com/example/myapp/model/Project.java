@@ -1,6 +1,9 @@
 package com.example.myapp.model;
 
 import jakarta.persistence.*;
+import com.example.myapp.config.EntityChangeListener;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import com.example.myapp.config.ProjectStatusConverter;
 import java.time.LocalDate;
 import java.util.List;
@@ -9,6 +12,9 @@ import com.fasterxml.jackson.annotation.JsonManagedReference;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "project")
+@EntityListeners(EntityChangeListener.class)
 @Table(name = "projects")
 public class Project {
     @Id
@@ -44,17 +50,17 @@ public class Project {
     @Column(name = "due_at")
     private LocalDate dueAt;
     
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "client_id", insertable = false, updatable = false)
     @JsonBackReference
     private Client client;
     
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "department_id", insertable = false, updatable = false)
     @JsonBackReference
     private Department department;
     
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "chef_id", insertable = false, updatable = false)
     @JsonBackReference
     private Employee chef;
@@ -1,12 +1,18 @@
 package com.example.myapp.model;
 
 import jakarta.persistence.*;
+import com.example.myapp.config.EntityChangeListener;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import com.example.myapp.config.TaskStatusConverter;
 import java.time.LocalDateTime;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "task")
+@EntityListeners(EntityChangeListener.class)
 @Table(name = "tasks")
 public class Task {
     @Id
@@ -43,12 +49,12 @@ public class Task {
     @Column(name = "completed_date")
     private LocalDateTime completedDate;
     
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "project_id", insertable = false, updatable = false)
     @JsonIgnore
     private Project project;
     
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "employee_id", insertable = false, updatable = false)
     @JsonIgnore
     private Employee employee;
@@ -2,6 +2,7 @@ package com.example.myapp.model;
 
 
 import jakarta.persistence.*;
+import com.example.myapp.config.EntityChangeListener;
 import java.time.LocalDateTime;
 
 import com.example.myapp.config.TicketStatusConverter;
@@ -9,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
 @Entity
+@EntityListeners(EntityChangeListener.class)
 @Table(name = "tickets")
 public class Ticket {
     @Id
@@ -42,12 +44,12 @@ public class Ticket {
     @Column(name = "resolved_at")
     private LocalDateTime resolvedAt;
     
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "client_id", insertable = false, updatable = false)
     @JsonIgnore
     private Client client;
     
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "employee_id", insertable = false, updatable = false)
     @JsonIgnore
     private Employee employee;
@@ -1,13 +1,29 @@
 package com.example.myapp.repository;
 
 import com.example.myapp.model.Client;
+import org.springframework.data.domain.Limit;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface ClientRepository extends JpaRepository<Client, Integer> {
+    // Keyset pagination on the primary key
+    List<Client> findByClientIdGreaterThanOrderByClientIdAsc(Integer after, Limit limit);
+
     List<Client> findByClientNameContainingIgnoreCase(String clientName);
     List<Client> findByContactPersonContainingIgnoreCase(String contactPerson);
     Client findByEmail(String email);
-} 
\ No newline at end of file
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT c FROM Client c ORDER BY c.clientId")
+    Stream<Client> streamAll();
+}
@@ -3,16 +3,32 @@ package com.example.myapp.repository;
 import com.example.myapp.model.Contract;
 import com.example.myapp.model.ContractStatus;
 import com.example.myapp.model.ContractType;
+import org.springframework.data.domain.Limit;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface ContractRepository extends JpaRepository<Contract, Integer> {
+    // Keyset pagination on the primary key
+    List<Contract> findByContractIdGreaterThanOrderByContractIdAsc(Integer after, Limit limit);
+
     List<Contract> findByEmployeeId(Integer employeeId);
     List<Contract> findByContractType(ContractType contractType);
     List<Contract> findByStatus(ContractStatus status);
     List<Contract> findByRemoteAvailable(Boolean remoteAvailable);
 
     Contract findByEmployeeIdAndStatus(Integer employeeId, ContractStatus status);
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT c FROM Contract c ORDER BY c.contractId")
+    Stream<Contract> streamAll();
 }
@@ -1,12 +1,49 @@
 package com.example.myapp.repository;
 
+import com.example.myapp.dto.DepartmentInfoDTO;
 import com.example.myapp.model.Department;
+import org.springframework.data.domain.Limit;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface DepartmentRepository extends JpaRepository<Department, Integer> {
+    // Keyset pagination on the primary key
+    List<Department> findByDepartmentIdGreaterThanOrderByDepartmentIdAsc(Integer after, Limit limit);
+
+    // One statement for the whole list; the head employee is joined instead of loaded per department
+    @Query("SELECT new com.example.myapp.dto.DepartmentInfoDTO(d.departmentId, d.departmentName, " +
+           "COALESCE(CONCAT(h.firstName, ' ', h.lastName), 'N/A'), h.employeeId) " +
+           "FROM Department d LEFT JOIN d.headEmployee h ORDER BY d.departmentId")
+    List<DepartmentInfoDTO> findAllWithManagerNames();
+
     List<Department> findByDepartmentNameContainingIgnoreCase(String departmentName);
     Department findByDepartmentName(String departmentName);
-} 
\ No newline at end of file
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT d FROM Department d ORDER BY d.departmentId")
+    Stream<Department> streamAll();
+
+    // Everything saveEmployeeWithContract needs to check before inserting, in one round trip
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM departments WHERE department_id = :departmentId) AS \"departmentExists\", " +
+                   "EXISTS (SELECT 1 FROM employees WHERE employee_id = :managerId) AS \"managerExists\", " +
+                   "(SELECT head_employee_id FROM departments WHERE department_id = :departmentId) AS \"headEmployeeId\"",
+           nativeQuery = true)
+    ReferenceCheck checkReferences(@Param("departmentId") Integer departmentId, @Param("managerId") Integer managerId);
+
+    interface ReferenceCheck {
+        Boolean getDepartmentExists();
+        Boolean getManagerExists();
+        Integer getHeadEmployeeId();
+    }
+}
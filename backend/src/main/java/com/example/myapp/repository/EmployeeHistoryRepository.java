@@ -2,13 +2,25 @@ package com.example.myapp.repository;
 
 import com.example.myapp.model.EmployeeHistory;
 import com.example.myapp.model.EventType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface EmployeeHistoryRepository extends JpaRepository<EmployeeHistory, Integer> {
     List<EmployeeHistory> findByEmployeeId(Integer employeeId);
     List<EmployeeHistory> findByEventType(EventType eventType);
     List<EmployeeHistory> findByEmployeeIdOrderByEventDateDesc(Integer employeeId);
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT h FROM EmployeeHistory h ORDER BY h.historyId")
+    Stream<EmployeeHistory> streamAll();
 }
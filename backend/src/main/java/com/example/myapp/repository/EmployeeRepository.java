@@ -2,15 +2,26 @@ package com.example.myapp.repository;
 
 import com.example.myapp.model.Employee;
 import com.example.myapp.model.EmployeeStatus;
+import org.springframework.data.domain.Limit;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface EmployeeRepository extends JpaRepository<Employee, Integer> {
+    // Keyset pagination on the primary key
+    List<Employee> findByEmployeeIdGreaterThanOrderByEmployeeIdAsc(Integer after, Limit limit);
+
     List<Employee> findByFirstNameContainingIgnoreCaseOrLastNameContainingIgnoreCase(String firstName, String lastName);
+    // Hot finders: results go to the query cache, the employees themselves to the employee region
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Employee> findByDepartmentId(Integer departmentId);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Employee> findByManagerId(Integer managerId);
     List<Employee> findByStatus(EmployeeStatus status);
     Employee findByEmail(String email);
@@ -18,4 +29,11 @@ public interface EmployeeRepository extends JpaRepository<Employee, Integer> {
     
     @Query("SELECT e FROM Employee e WHERE e.departmentId = ?1 AND e.status = ?2")
     List<Employee> findByDepartmentIdAndStatus(Integer departmentId, EmployeeStatus status);
-} 
\ No newline at end of file
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e FROM Employee e ORDER BY e.employeeId")
+    Stream<Employee> streamAll();
+}
@@ -2,14 +2,22 @@ package com.example.myapp.repository;
 
 import com.example.myapp.model.Project;
 import com.example.myapp.model.ProjectStatus;
+import org.springframework.data.domain.Limit;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Integer> {
+    // Keyset pagination on the primary key
+    List<Project> findByProjectIdGreaterThanOrderByProjectIdAsc(Integer after, Limit limit);
+
     List<Project> findByProjectNameContainingIgnoreCase(String projectName);
     List<Project> findByClientId(Integer clientId);
     List<Project> findByDepartmentId(Integer departmentId);
@@ -21,4 +29,73 @@ public interface ProjectRepository extends JpaRepository<Project, Integer> {
 
     @Query("SELECT p FROM Project p WHERE p.dueAt < ?1 AND p.status != 'Completed'")
     List<Project> findOverdueProjects(LocalDate currentDate);
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p FROM Project p ORDER BY p.projectId")
+    Stream<Project> streamAll();
+
+    // Dashboard aggregates, see ProjectAnalyticsService
+    @Query("SELECT p.status AS status, COUNT(p) AS total FROM Project p GROUP BY p.status")
+    List<StatusCount> countByStatus();
+
+    @Query("SELECT c.clientId AS clientId, c.clientName AS clientName, COUNT(p) AS total, " +
+           "SUM(CASE WHEN p.status = ?1 THEN 1 ELSE 0 END) AS completed, " +
+           "SUM(CASE WHEN p.status = ?2 THEN 1 ELSE 0 END) AS active " +
+           "FROM Project p JOIN p.client c GROUP BY c.clientId, c.clientName")
+    List<ClientCounts> countByClient(ProjectStatus completed, ProjectStatus active);
+
+    @Query("SELECT d.departmentId AS departmentId, d.departmentName AS departmentName, " +
+           "(SELECT COUNT(e) FROM Employee e WHERE e.departmentId = d.departmentId) AS employees, " +
+           "COUNT(p) AS total, " +
+           "SUM(CASE WHEN p.status = ?1 THEN 1 ELSE 0 END) AS completed, " +
+           "SUM(CASE WHEN p.status = ?2 THEN 1 ELSE 0 END) AS active " +
+           "FROM Department d LEFT JOIN d.projects p GROUP BY d.departmentId, d.departmentName")
+    List<DepartmentCounts> countByDepartment(ProjectStatus completed, ProjectStatus active);
+
+    // period is the bucket start formatted as yyyy-MM
+    @Query(value = "SELECT to_char(date_trunc('month', p.start_date), 'YYYY-MM') AS period, " +
+                   "COUNT(*) AS total, COUNT(*) FILTER (WHERE p.status = ?2) AS completed " +
+                   "FROM projects p WHERE p.start_date >= ?1 GROUP BY 1 ORDER BY 1", nativeQuery = true)
+    List<PeriodCounts> countStartedByMonth(LocalDate since, String completedStatus);
+
+    @Query(value = "SELECT to_char(date_trunc('quarter', p.start_date), 'YYYY-MM') AS period, " +
+                   "COUNT(*) AS total, COUNT(*) FILTER (WHERE p.status = ?2) AS completed " +
+                   "FROM projects p WHERE p.start_date >= ?1 GROUP BY 1 ORDER BY 1", nativeQuery = true)
+    List<PeriodCounts> countStartedByQuarter(LocalDate since, String completedStatus);
+
+    @Query(value = "SELECT to_char(date_trunc('month', p.end_date), 'YYYY-MM') AS period, " +
+                   "COUNT(*) AS total, COUNT(*) AS completed " +
+                   "FROM projects p WHERE p.end_date >= ?1 AND p.status = ?2 GROUP BY 1 ORDER BY 1", nativeQuery = true)
+    List<PeriodCounts> countCompletedByMonth(LocalDate since, String completedStatus);
+
+    interface StatusCount {
+        ProjectStatus getStatus();
+        Long getTotal();
+    }
+
+    interface ClientCounts {
+        Integer getClientId();
+        String getClientName();
+        Long getTotal();
+        Long getCompleted();
+        Long getActive();
+    }
+
+    interface DepartmentCounts {
+        Integer getDepartmentId();
+        String getDepartmentName();
+        Long getEmployees();
+        Long getTotal();
+        Long getCompleted();
+        Long getActive();
+    }
+
+    interface PeriodCounts {
+        String getPeriod();
+        Long getTotal();
+        Long getCompleted();
+    }
 }
@@ -3,14 +3,22 @@ package com.example.myapp.repository;
 import com.example.myapp.model.Task;
 import com.example.myapp.model.TaskStatus;
 import com.example.myapp.model.TaskPriority;
+import org.springframework.data.domain.Limit;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Integer> {
+    // Keyset pagination on the primary key
+    List<Task> findByTaskIdGreaterThanOrderByTaskIdAsc(Integer after, Limit limit);
+
     List<Task> findByProjectId(Integer projectId);
     List<Task> findByEmployeeId(Integer employeeId);
     List<Task> findByStatus(TaskStatus status);
@@ -22,4 +30,11 @@ public interface TaskRepository extends JpaRepository<Task, Integer> {
 
     @Query("SELECT t FROM Task t WHERE t.dueDate < ?1 AND t.status != 'Completed'")
     List<Task> findOverdueTasks(LocalDateTime currentDate);
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM Task t ORDER BY t.taskId")
+    Stream<Task> streamAll();
 }
@@ -3,16 +3,21 @@ package com.example.myapp.repository;
 import com.example.myapp.model.Ticket;
 import com.example.myapp.model.TicketStatus;
 import com.example.myapp.model.TicketPriority;
+import org.springframework.data.domain.Limit;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface TicketRepository extends JpaRepository<Ticket, Integer> {
-    @Query("SELECT t FROM Ticket t LEFT JOIN FETCH t.employee LEFT JOIN FETCH t.client")
-    List<Ticket> findAllWithRelations();
-    
+    // Keyset pagination on the primary key
+    List<Ticket> findByTicketIdGreaterThanOrderByTicketIdAsc(Integer after, Limit limit);
+
     List<Ticket> findByClientId(Integer clientId);
     List<Ticket> findByEmployeeId(Integer employeeId);
     List<Ticket> findByStatus(TicketStatus status);
@@ -20,4 +25,11 @@ public interface TicketRepository extends JpaRepository<Ticket, Integer> {
     List<Ticket> findByTitleContainingIgnoreCase(String title);
 
     List<Ticket> findByClientIdAndStatus(Integer clientId, TicketStatus status);
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM Ticket t ORDER BY t.ticketId")
+    Stream<Ticket> streamAll();
 }
@@ -0,0 +1,259 @@
+package com.example.myapp.service;
+
+import com.example.myapp.config.BinaryFormats;
+import com.example.myapp.config.ReadYourWrites;
+import com.example.myapp.config.SqlTracing;
+import com.example.myapp.model.Employee;
+import com.example.myapp.model.Project;
+import com.example.myapp.model.Task;
+import com.example.myapp.model.Ticket;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+// Everything a page needs in one request. Sections are loaded concurrently, one virtual thread
+// each on Java 21+ (DbAdmissionGate bounds how many hold a connection), otherwise on a small pool
+// kept below the Hikari pool size, so one bootstrap never takes every connection.
+//
+// The sections are independent queries, so they are checked against the collection versions
+// (CollectionVersions) read before and after: if a write to any of the collections committed in
+// between, the page is loaded again inside a single REPEATABLE READ read-only transaction, which
+// is slower (sequential) but guaranteed consistent.
+@Service
+public class BootstrapService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BootstrapService.class);
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private SparseFieldsService sparseFieldsService;
+
+    @Autowired
+    private CollectionVersions collectionVersions;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ExecutorService executor;
+
+    // Sections per page, in response order; mirrors what each screen used to fetch on its own
+    private final Map<String, List<Section>> pages = new LinkedHashMap<>();
+
+    public BootstrapService(@Value("${bootstrap.parallelism:3}") int parallelism) {
+        this.executor = newExecutor(parallelism);
+
+        // pages/Employee.js
+        pages.put("employee", List.of(
+                new Section("employees", "employee", () -> employeeService.getAllEmployees()),
+                new Section("departments", "department", () -> departmentService.getAllDepartments()),
+                new Section("tasks", "task", () -> taskService.getAllTasks()),
+                new Section("tickets", "ticket", () -> ticketService.getAllTickets()),
+                new Section("projects", "project", () -> projectService.getAllProjects())));
+        // components/EmployeeMetrics.js
+        pages.put("employee-metrics", List.of(
+                new Section("employees", "employee", () -> sparseFieldsService.findAll(Employee.class, "employeeId")),
+                new Section("departments", "department", () -> departmentService.getAllDepartments()),
+                new Section("projects", "project", () -> sparseFieldsService.findAll(Project.class, "status")),
+                new Section("tasks", "task", () -> sparseFieldsService.findAll(Task.class, "employeeId,status"))));
+        // components/EmployeeFilter.js
+        pages.put("employee-filter", List.of(
+                new Section("employees", "employee", () -> employeeService.getAllEmployees()),
+                new Section("departments", "department", () -> departmentService.getAllDepartments()),
+                new Section("tasks", "task", () -> taskService.getAllTasks())));
+    }
+
+    public Set<String> getPages() {
+        return pages.keySet();
+    }
+
+    public boolean supports(String page) {
+        return pages.containsKey(page);
+    }
+
+    // The build targets Java 17, so the virtual-thread factory is looked up rather than called
+    private static ExecutorService newExecutor(int parallelism) {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(parallelism, runnable -> {
+                Thread thread = new Thread(runnable, "bootstrap-loader");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    // Changes whenever one of the page's collections does; checked before anything is loaded.
+    // Binary representations get their own tags, as in CollectionETagInterceptor. Null when the
+    // collection versions are unavailable.
+    public String etag(String page, String format) {
+        return etag(page, collectionVersions.tag(collections(page)), format);
+    }
+
+    private static String etag(String page, String versions, String format) {
+        if (versions == null) {
+            return null;
+        }
+        return "\"" + page + "-" + versions + (BinaryFormats.JSON_FORMAT.equals(format) ? "" : "-" + format) + "\"";
+    }
+
+    public Result load(String page, String format) {
+        List<Section> sections = pages.get(page);
+        if (sections == null) {
+            throw new IllegalArgumentException("Unknown bootstrap page: " + page);
+        }
+        long started = System.nanoTime();
+        String versions = collectionVersions.tag(collections(page));
+        String etag = etag(page, versions, format);
+        if (etag == null) {
+            // No way to notice a write racing the parallel loads
+            Result result = loadInTransaction(sections, null);
+            result.timings.put("total", (System.nanoTime() - started) / 1_000_000.0);
+            return result;
+        }
+        // The sections must be at least as new as the tag, which was read on the primary
+        if (!collectionVersions.isReplicaCurrent(collections(page), versions)) {
+            ReadYourWrites.pinRequest();
+        }
+        Result result = loadConcurrently(sections, etag);
+        if (!etag.equals(etag(page, format))) {
+            logger.debug("Bootstrap {} raced a write, reloading in one transaction", page);
+            etag = etag(page, format);
+            result = loadInTransaction(sections, etag);
+        }
+        result.timings.put("total", (System.nanoTime() - started) / 1_000_000.0);
+        return result;
+    }
+
+    private Result loadConcurrently(List<Section> sections, String etag) {
+        List<CompletableFuture<Timed>> futures = new ArrayList<>();
+        for (Section section : sections) {
+            futures.add(CompletableFuture.supplyAsync(SqlTracing.propagate(ReadYourWrites.propagate(() -> Timed.run(section.loader))), executor));
+        }
+        Result result = new Result(etag);
+        for (int i = 0; i < sections.size(); i++) {
+            try {
+                result.add(sections.get(i).name, futures.get(i).join());
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+        return result;
+    }
+
+    private Result loadInTransaction(List<Section> sections, String etag) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        return transaction.execute(status -> {
+            // Hibernate releases connections after each transaction here (connection.handling_mode),
+            // which HibernateJpaDialect refuses to combine with an isolation level, so it is set in SQL.
+            // Must be the transaction's first statement.
+            jdbcTemplate.execute("SET TRANSACTION ISOLATION LEVEL REPEATABLE READ");
+            Result result = new Result(etag);
+            for (Section section : sections) {
+                result.add(section.name, Timed.run(section.loader));
+            }
+            return result;
+        });
+    }
+
+    private Set<String> collections(String page) {
+        Set<String> collections = new LinkedHashSet<>();
+        pages.get(page).forEach(section -> collections.add(section.collection));
+        return collections;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public static class Result {
+        private final String etag;
+        private final Map<String, Object> sections = new LinkedHashMap<>();
+        private final Map<String, Double> timings = new LinkedHashMap<>(); // milliseconds
+
+        Result(String etag) {
+            this.etag = etag;
+        }
+
+        private void add(String name, Timed timed) {
+            sections.put(name, timed.value);
+            timings.put(name, timed.millis);
+        }
+
+        public String getEtag() { return etag; }
+        public Map<String, Object> getSections() { return sections; }
+
+        // Server-Timing header value: "employees;dur=12.4, departments;dur=0.3, ..., total;dur=14.1"
+        public String serverTiming() {
+            List<String> metrics = new ArrayList<>();
+            timings.forEach((name, millis) -> metrics.add(name + ";dur=" + String.format(Locale.ROOT, "%.1f", millis)));
+            return String.join(", ", metrics);
+        }
+    }
+
+    private static class Section {
+        private final String name;
+        private final String collection;
+        private final Supplier<Object> loader;
+
+        Section(String name, String collection, Supplier<Object> loader) {
+            this.name = name;
+            this.collection = collection;
+            this.loader = loader;
+        }
+    }
+
+    private static class Timed {
+        private final Object value;
+        private final double millis;
+
+        private Timed(Object value, double millis) {
+            this.value = value;
+            this.millis = millis;
+        }
+
+        static Timed run(Supplier<Object> loader) {
+            long started = System.nanoTime();
+            Object value = loader.get();
+            return new Timed(value, (System.nanoTime() - started) / 1_000_000.0);
+        }
+    }
+}
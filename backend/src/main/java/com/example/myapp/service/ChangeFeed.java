@@ -0,0 +1,230 @@
+package com.example.myapp.service;
+
+import com.example.myapp.dto.ChangeBatchDTO;
+import com.example.myapp.dto.ChangeDTO;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Every committed write gets the next sequence number and goes into a fixed-size ring buffer.
+// Pollers ask for everything after the last seq they saw; SSE subscribers keep that cursor on the
+// server and are woken up on each write. Whoever falls further behind than the buffer holds is
+// told to resync, i.e. reload the full lists once and continue from the returned seq.
+//
+// Sequences start at the startup time in microseconds so they keep increasing across restarts,
+// and a client holding a seq from before a restart is sent to resync like any other gap.
+//
+// The feed lives in this instance's memory and only sees writes committed here, so with several
+// instances a client must follow /api/changes on one instance (sticky sessions). The collection
+// versions behind the ETags do not have that restriction, see CollectionVersions.
+@Component
+public class ChangeFeed {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeFeed.class);
+
+    public static final int DEFAULT_LIMIT = 500;
+    public static final int MAX_LIMIT = 5000;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${changes.stream-timeout-ms:1800000}")
+    private long streamTimeoutMs;
+
+    @Value("${changes.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    private final ChangeDTO[] buffer;
+    private final long firstSeq = System.currentTimeMillis() * 1000;
+    private long nextSeq = firstSeq; // guarded by this
+
+    private final Map<SseEmitter, Subscriber> subscribers = new ConcurrentHashMap<>();
+    // Sending can block on a slow client, so it stays off the request and scheduler threads. Each
+    // subscriber is served by at most one task at a time and tasks never wait on each other, so a
+    // client that stops reading holds one thread and delays nobody else; see heartbeat() for how
+    // long it may hold it.
+    private final ExecutorService sender = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "change-feed-sender");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ChangeFeed(@Value("${changes.buffer-size:10000}") int bufferSize) {
+        this.buffer = new ChangeDTO[bufferSize];
+    }
+
+    public void record(String entity, String op, Object id, Object row) {
+        append(entity, op, id, row != null ? objectMapper.valueToTree(row) : null);
+    }
+
+    public void recordResync(String entity) {
+        append(entity, ChangeDTO.RESYNC, null, null);
+    }
+
+    private void append(String entity, String op, Object id, JsonNode data) {
+        synchronized (this) {
+            long seq = nextSeq++;
+            buffer[(int) (seq % buffer.length)] = new ChangeDTO(seq, entity, op, id, Instant.now(), data);
+        }
+        subscribers.values().forEach(this::wake);
+    }
+
+    // The newest seq handed out so far; a client starting from scratch loads everything, then follows from here
+    public synchronized long latestSeq() {
+        return nextSeq - 1;
+    }
+
+    public ChangeBatchDTO since(Long since, Integer limit) {
+        int max = limit == null ? DEFAULT_LIMIT : Math.max(1, Math.min(limit, MAX_LIMIT));
+        synchronized (this) {
+            long oldest = Math.max(firstSeq, nextSeq - buffer.length);
+            if (since == null || since + 1 < oldest || since >= nextSeq) {
+                return new ChangeBatchDTO(nextSeq - 1, true, false, List.of());
+            }
+            List<ChangeDTO> changes = new ArrayList<>();
+            long seq = since + 1;
+            for (; seq < nextSeq && changes.size() < max; seq++) {
+                changes.add(buffer[(int) (seq % buffer.length)]);
+            }
+            return new ChangeBatchDTO(seq - 1, false, seq < nextSeq, changes);
+        }
+    }
+
+    public SseEmitter subscribe(Long since) {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, since != null ? since : latestSeq());
+        emitter.onCompletion(() -> subscribers.remove(emitter));
+        emitter.onTimeout(() -> subscribers.remove(emitter));
+        emitter.onError(e -> subscribers.remove(emitter));
+        subscribers.put(emitter, subscriber);
+        // Replays whatever the client missed since its last event, or tells it to resync
+        wake(subscriber);
+        return emitter;
+    }
+
+    // Proxies and browsers drop idle connections; a comment line keeps them open and detects dead clients.
+    // A subscriber whose current send has been blocked for longer than changes.send-timeout-ms is
+    // dropped here: it gets no more work and its emitter is completed once the blocked write returns
+    // (at the latest when the container's write timeout fails it).
+    @Scheduled(fixedDelayString = "${changes.heartbeat-ms:25000}")
+    public void heartbeat() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers.values()) {
+            long sendingSince = subscriber.sendingSince;
+            if (sendingSince != 0 && now - sendingSince > TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs)) {
+                logger.debug("Dropping change feed subscriber blocked in a send for over {} ms", sendTimeoutMs);
+                // completeWithError waits for the blocked send to release the emitter, so not on this thread
+                subscribers.remove(subscriber.emitter);
+                sender.execute(() -> subscriber.emitter.completeWithError(new IOException("Change feed send timed out")));
+            } else {
+                subscriber.keepalive = true;
+                wake(subscriber);
+            }
+        }
+    }
+
+    // Same hand-off as KpiService.refreshAll: the running flag is re-checked after it is released so a
+    // wake-up that arrives while the task is finishing is not lost
+    private void wake(Subscriber subscriber) {
+        subscriber.pending.set(true);
+        if (subscriber.running.compareAndSet(false, true)) {
+            sender.execute(() -> run(subscriber));
+        }
+    }
+
+    private void run(Subscriber subscriber) {
+        do {
+            try {
+                while (subscriber.pending.getAndSet(false) && deliver(subscriber)) {
+                    // Deliver until no wake-up is outstanding or the subscriber was dropped
+                }
+            } finally {
+                subscriber.running.set(false);
+            }
+        } while (subscriber.pending.get() && subscribers.containsKey(subscriber.emitter)
+                && subscriber.running.compareAndSet(false, true));
+    }
+
+    // False once the subscriber has been dropped
+    private boolean deliver(Subscriber subscriber) {
+        if (subscriber.keepalive) {
+            subscriber.keepalive = false;
+            if (!send(subscriber, SseEmitter.event().comment("keepalive"))) {
+                return false;
+            }
+        }
+        while (subscribers.containsKey(subscriber.emitter)) {
+            ChangeBatchDTO batch = since(subscriber.cursor, DEFAULT_LIMIT);
+            if (batch.isResync()) {
+                if (!send(subscriber, SseEmitter.event().id(Long.toString(batch.getSeq())).name(ChangeDTO.RESYNC)
+                        .data(Map.of("seq", batch.getSeq())))) {
+                    return false;
+                }
+            } else {
+                for (ChangeDTO change : batch.getChanges()) {
+                    if (!send(subscriber, SseEmitter.event().id(Long.toString(change.getSeq())).name("change").data(change))) {
+                        return false;
+                    }
+                }
+            }
+            subscriber.cursor = batch.getSeq();
+            if (!batch.isHasMore()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean send(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        subscriber.sendingSince = System.nanoTime();
+        try {
+            subscriber.emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            logger.debug("Dropping change feed subscriber: {}", e.getMessage());
+            subscribers.remove(subscriber.emitter);
+            subscriber.emitter.completeWithError(e);
+            return false;
+        } finally {
+            subscriber.sendingSince = 0;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.keySet().forEach(SseEmitter::complete);
+        sender.shutdownNow();
+    }
+
+    private static class Subscriber {
+        private final SseEmitter emitter;
+        private final AtomicBoolean pending = new AtomicBoolean(false);
+        private final AtomicBoolean running = new AtomicBoolean(false);
+        private volatile boolean keepalive;
+        private volatile long sendingSince; // System.nanoTime() when the current send started, 0 when idle
+        private long cursor; // last seq delivered, only touched by the task running for this subscriber
+
+        Subscriber(SseEmitter emitter, long cursor) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+        }
+    }
+}
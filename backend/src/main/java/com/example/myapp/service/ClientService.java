@@ -2,7 +2,10 @@ package com.example.myapp.service;
 
 import com.example.myapp.model.Client;
 import com.example.myapp.repository.ClientRepository;
+import com.example.myapp.dto.CursorPage;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import java.util.List;
 import java.util.Optional;
@@ -13,23 +16,46 @@ public class ClientService {
     
     @Autowired
     private ClientRepository clientRepository;
+
+    @Autowired
+    private EmailIndex emailIndex;
     
     @Transactional(readOnly = true)
     public List<Client> getAllClients() {
         return clientRepository.findAll();
     }
     
+    @Transactional(readOnly = true)
+    public CursorPage<Client> getClientsPage(String after, Integer limit) {
+        int pageSize = CursorPage.clampLimit(limit);
+        List<Client> rows = clientRepository.findByClientIdGreaterThanOrderByClientIdAsc(CursorPage.decodeCursor(after), Limit.of(pageSize + 1));
+        return CursorPage.of(rows, pageSize, Client::getClientId);
+    }
+    
     @Transactional(readOnly = true)
     public Optional<Client> getClientById(Integer id) {
         return clientRepository.findById(id);
     }
     
     public Client saveClient(Client client) {
-        return clientRepository.save(client);
+        if (emailIndex.isClientEmailTaken(client.getEmail(), client.getClientId())) {
+            throw new IllegalArgumentException("Client with email " + client.getEmail() + " already exists");
+        }
+        try {
+            Client saved = clientRepository.saveAndFlush(client);
+            emailIndex.recordClient(saved.getClientId(), saved.getEmail());
+            return saved;
+        } catch (DataIntegrityViolationException e) {
+            if (EmailIndex.isEmailConflict(e.getMostSpecificCause())) {
+                throw new IllegalArgumentException("Client with email " + client.getEmail() + " already exists");
+            }
+            throw e;
+        }
     }
     
     public void deleteClient(Integer id) {
         clientRepository.deleteById(id);
+        emailIndex.removeClient(id);
     }
     
     public List<Client> searchClientsByName(String name) {
@@ -43,4 +69,8 @@ public class ClientService {
     public Client getClientByEmail(String email) {
         return clientRepository.findByEmail(email);
     }
+    
+    public boolean existsByEmail(String email) {
+        return emailIndex.clientEmailExists(email);
+    }
 } 
\ No newline at end of file
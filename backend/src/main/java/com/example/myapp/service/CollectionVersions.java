@@ -0,0 +1,142 @@
+package com.example.myapp.service;
+
+import com.example.myapp.config.ReplicaRoutingDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.TreeSet;
+
+// One row per collection whose version changes whenever a write to it commits, the basis of the
+// collection ETags. Kept in the database rather than in memory so that every instance hands out
+// the same tag for the same data: a write served by one instance invalidates the copies validated
+// by all the others.
+//
+// The bump runs inside the writing transaction, so the new version becomes visible exactly when the
+// rows do. Writes only note their collection; the UPDATEs run once per transaction right before the
+// JDBC commit (after Hibernate's final flush, whose callbacks may add collections), in sorted order.
+// The row locks are therefore held for the commit alone, and two transactions touching the same
+// collections always lock them in the same order, so they cannot deadlock.
+//
+// Tags are read outside any transaction, which keeps them on the primary. Since the table is
+// replicated with the data, the same rows read on the replica tell whether it has replayed the
+// writes behind a tag (isReplicaCurrent).
+@Component
+public class CollectionVersions {
+
+    private static final Logger logger = LoggerFactory.getLogger(CollectionVersions.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Looked up lazily: the entity listeners that call bump() are built with the factory itself
+    @Autowired
+    private ObjectProvider<EntityManagerFactory> entityManagerFactory;
+
+    @Autowired
+    private ObjectProvider<ReplicaRoutingDataSource> replicaRouting;
+
+    private volatile boolean ready = false;
+
+    // Runs after Hibernate has created/updated the tables
+    @EventListener(ApplicationReadyEvent.class)
+    public void createTable() {
+        try {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS collection_versions " +
+                    "(collection VARCHAR(64) PRIMARY KEY, version BIGINT NOT NULL)");
+            ready = true;
+            logger.info("Collection versions ready");
+        } catch (Exception e) {
+            logger.warn("Collection versions unavailable, responses will not be ETagged: {}", e.getMessage());
+        }
+    }
+
+    public void bump(String collection) {
+        if (!ready) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            increment(collection);
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Set<String> pending = (Set<String>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Set<String> collections = new TreeSet<>();
+            TransactionSynchronizationManager.bindResource(this, collections);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(CollectionVersions.this);
+                }
+            });
+            EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory.getObject())
+                    .unwrap(SessionImplementor.class).getActionQueue()
+                    .registerProcess((BeforeTransactionCompletionProcess) session -> collections.forEach(this::increment));
+            pending = collections;
+        }
+        pending.add(collection);
+    }
+
+    private void increment(String collection) {
+        if (jdbcTemplate.update("UPDATE collection_versions SET version = version + 1 WHERE collection = ?", collection) == 0) {
+            // First write to this collection. Starting from the clock keeps a recreated table from
+            // handing out tags that clients may still hold.
+            jdbcTemplate.update("INSERT INTO collection_versions (collection, version) VALUES (?, ?) ON CONFLICT DO NOTHING",
+                    collection, System.currentTimeMillis() * 1000);
+            jdbcTemplate.update("UPDATE collection_versions SET version = version + 1 WHERE collection = ?", collection);
+        }
+    }
+
+    // The versions of the collections as one token, e.g. for an ETag over a composite response;
+    // null when versions are unavailable, in which case nothing may be validated against them
+    public String tag(Collection<String> collections) {
+        return ready ? read(jdbcTemplate, collections) : null;
+    }
+
+    // Whether reads for a response carrying this tag (from tag()) may go to the replica: true only
+    // when it is usable and shows exactly these versions. A replica that has not replayed the writes
+    // behind the tag would return old rows under the new tag, and they would be cached as such.
+    public boolean isReplicaCurrent(Collection<String> collections, String tag) {
+        ReplicaRoutingDataSource routing = replicaRouting.getIfAvailable();
+        if (routing == null || !routing.isUsable() || tag == null) {
+            return false;
+        }
+        return tag.equals(read(new JdbcTemplate(routing.getReplica()), collections));
+    }
+
+    private String read(JdbcTemplate jdbc, Collection<String> collections) {
+        Map<String, Long> versions = new HashMap<>();
+        try {
+            String placeholders = String.join(",", Collections.nCopies(collections.size(), "?"));
+            jdbc.query("SELECT collection, version FROM collection_versions WHERE collection IN (" + placeholders + ")",
+                    rs -> { versions.put(rs.getString(1), rs.getLong(2)); }, collections.toArray());
+        } catch (Exception e) {
+            logger.warn("Could not read collection versions: {}", e.getMessage());
+            return null;
+        }
+        StringJoiner tag = new StringJoiner(".");
+        for (String collection : collections) {
+            // Never written since the table was created
+            tag.add(Long.toString(versions.getOrDefault(collection, 0L), 36));
+        }
+        return tag.toString();
+    }
+}
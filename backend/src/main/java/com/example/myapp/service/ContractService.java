@@ -4,7 +4,9 @@ import com.example.myapp.model.Contract;
 import com.example.myapp.model.ContractStatus;
 import com.example.myapp.model.ContractType;
 import com.example.myapp.repository.ContractRepository;
+import com.example.myapp.dto.CursorPage;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import java.util.List;
 import java.util.Optional;
@@ -21,6 +23,13 @@ public class ContractService {
         return contractRepository.findAll();
     }
     
+    @Transactional(readOnly = true)
+    public CursorPage<Contract> getContractsPage(String after, Integer limit) {
+        int pageSize = CursorPage.clampLimit(limit);
+        List<Contract> rows = contractRepository.findByContractIdGreaterThanOrderByContractIdAsc(CursorPage.decodeCursor(after), Limit.of(pageSize + 1));
+        return CursorPage.of(rows, pageSize, Contract::getContractId);
+    }
+    
     @Transactional(readOnly = true)
     public Optional<Contract> getContractById(Integer id) {
         return contractRepository.findById(id);
@@ -1,11 +1,19 @@
 package com.example.myapp.service;
 
+import com.example.myapp.config.CacheConfig;
 import com.example.myapp.dto.DepartmentInfoDTO;
 import com.example.myapp.model.Department;
-import com.example.myapp.model.Employee;
 import com.example.myapp.repository.DepartmentRepository;
+import com.example.myapp.dto.CursorPage;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.cache.interceptor.SimpleKey;
 import org.springframework.stereotype.Service;
 import java.util.List;
 import java.util.Optional;
@@ -16,36 +24,90 @@ public class DepartmentService {
     
     @Autowired
     private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
     
+    @Cacheable(CacheConfig.DEPARTMENT_LIST)
     @Transactional(readOnly = true)
     public List<Department> getAllDepartments() {
         return departmentRepository.findAll();
     }
     
-    @Cacheable("departmentsWithManagers")
+    @Transactional(readOnly = true)
+    public CursorPage<Department> getDepartmentsPage(String after, Integer limit) {
+        int pageSize = CursorPage.clampLimit(limit);
+        List<Department> rows = departmentRepository.findByDepartmentIdGreaterThanOrderByDepartmentIdAsc(CursorPage.decodeCursor(after), Limit.of(pageSize + 1));
+        return CursorPage.of(rows, pageSize, Department::getDepartmentId);
+    }
+    
+    @Cacheable(CacheConfig.DEPARTMENTS_WITH_MANAGERS)
     @Transactional(readOnly = true)
     public List<DepartmentInfoDTO> getDepartmentsWithManagerNames() {
-        List<Department> departments = departmentRepository.findAll();
-        return departments.stream().map(dept -> {
-            Employee manager = dept.getHeadEmployee();
-            String managerName = (manager != null) ? manager.getFirstName() + " " + manager.getLastName() : "N/A";
-            Integer managerId = (manager != null) ? manager.getEmployeeId() : null;
-            return new DepartmentInfoDTO(dept.getDepartmentId(), dept.getDepartmentName(), managerName, managerId);
-        }).toList();
+        return departmentRepository.findAllWithManagerNames();
     }
 
+    @Cacheable(CacheConfig.DEPARTMENTS)
     @Transactional(readOnly = true)
     public Optional<Department> getDepartmentById(Integer id) {
         return departmentRepository.findById(id);
     }
     
+    @Caching(
+        put = @CachePut(cacheNames = CacheConfig.DEPARTMENTS, key = "#result.departmentId"),
+        evict = {
+            @CacheEvict(cacheNames = CacheConfig.DEPARTMENT_LIST, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.DEPARTMENTS_WITH_MANAGERS, allEntries = true)
+        })
     public Department saveDepartment(Department department) {
         return departmentRepository.save(department);
     }
+
+    // Loads its own copy rather than going through getDepartmentById: the cached instance is shared
+    // by every reader and must never be edited in place
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.DEPARTMENTS, key = "#id"),
+        @CacheEvict(cacheNames = CacheConfig.DEPARTMENT_LIST, allEntries = true),
+        @CacheEvict(cacheNames = CacheConfig.DEPARTMENTS_WITH_MANAGERS, allEntries = true)
+    })
+    @Transactional
+    public Optional<Department> updateDepartment(Integer id, Department details) {
+        return departmentRepository.findById(id).map(department -> {
+            department.setDepartmentName(details.getDepartmentName());
+            department.setDescription(details.getDescription());
+            department.setHeadEmployeeId(details.getHeadEmployeeId());
+            return departmentRepository.save(department);
+        });
+    }
     
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.DEPARTMENTS, key = "#id"),
+        @CacheEvict(cacheNames = CacheConfig.DEPARTMENT_LIST, allEntries = true),
+        @CacheEvict(cacheNames = CacheConfig.DEPARTMENTS_WITH_MANAGERS, allEntries = true)
+    })
     public void deleteDepartment(Integer id) {
         departmentRepository.deleteById(id);
     }
+
+    // Employee writes only show up in department data through the head's name in DepartmentInfoDTO,
+    // so the cached list is dropped only when the written employee heads a department. The native
+    // cache is peeked at: Cache.get() on a loading cache would run the query (auto-flushing the
+    // caller's pending changes) just to answer this.
+    @SuppressWarnings("unchecked")
+    public void evictIfDepartmentHead(Integer employeeId) {
+        Cache cache = cacheManager.getCache(CacheConfig.DEPARTMENTS_WITH_MANAGERS);
+        Object cached = cache != null
+                ? ((com.github.benmanes.caffeine.cache.Cache<Object, Object>) cache.getNativeCache()).getIfPresent(SimpleKey.EMPTY)
+                : null;
+        if (!(cached instanceof List<?> departments)) {
+            return;
+        }
+        boolean isHead = departments.stream()
+                .anyMatch(info -> info instanceof DepartmentInfoDTO dto && employeeId.equals(dto.getManagerId()));
+        if (isHead) {
+            cache.evict(SimpleKey.EMPTY);
+        }
+    }
     
     public List<Department> searchDepartmentsByName(String name) {
         return departmentRepository.findByDepartmentNameContainingIgnoreCase(name);
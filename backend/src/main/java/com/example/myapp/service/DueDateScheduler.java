@@ -0,0 +1,276 @@
+package com.example.myapp.service;
+
+import com.example.myapp.model.ProjectStatus;
+import com.example.myapp.model.TaskStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+
+// Tracks open tasks and projects by due date. Items that are not yet due sit in a min-heap, and a
+// single timer is armed for the earliest one. When it fires, everything now due moves into the
+// overdue set and a BecameOverdue event is published. The overdue endpoints then read ids from
+// memory instead of scanning both tables on every poll.
+@Component
+public class DueDateScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(DueDateScheduler.class);
+
+    // A failed initial load is retried after 30s, 1m, 2m and 4m before the scheduler gives up
+    private static final int LOAD_ATTEMPTS = 5;
+    private static final Duration FIRST_LOAD_RETRY = Duration.ofSeconds(30);
+
+    public enum Kind { TASK, PROJECT }
+
+    // Published when an item passes its due date, or is saved with a due date already in the past
+    public static class BecameOverdue {
+        private final Kind kind;
+        private final Integer id;
+        private final Instant dueAt;
+
+        public BecameOverdue(Kind kind, Integer id, Instant dueAt) {
+            this.kind = kind;
+            this.id = id;
+            this.dueAt = dueAt;
+        }
+
+        public Kind getKind() { return kind; }
+        public Integer getId() { return id; }
+        public Instant getDueAt() { return dueAt; }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    // Everything below is guarded by this
+    private final PriorityQueue<Entry> upcoming = new PriorityQueue<>(Comparator.comparing((Entry e) -> e.dueAt));
+    // The current due date of every item in upcoming; heap entries that disagree are stale and skipped
+    private final Map<Kind, Map<Integer, Instant>> pending = new EnumMap<>(Kind.class);
+    private final Map<Kind, Map<Integer, Instant>> overdue = new EnumMap<>(Kind.class);
+    // Items written before the initial load finished; the load's older snapshot must not override them.
+    // Only recorded while a load is still to come, so it cannot grow once the scheduler gives up.
+    private final Map<Kind, Set<Integer>> writtenBeforeLoad = new EnumMap<>(Kind.class);
+    private boolean loading = true;
+    private ScheduledFuture<?> wakeup;
+    private Instant wakeupAt;
+    private volatile boolean ready = false;
+
+    public DueDateScheduler() {
+        for (Kind kind : Kind.values()) {
+            pending.put(kind, new HashMap<>());
+            overdue.put(kind, new HashMap<>());
+            writtenBeforeLoad.put(kind, new HashSet<>());
+        }
+    }
+
+    // Runs after Hibernate has created/updated the tables
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        load(1);
+    }
+
+    private void load(int attempt) {
+        try {
+            List<Object[]> rows = new ArrayList<>();
+            jdbcTemplate.query("SELECT task_id, due_date FROM tasks WHERE due_date IS NOT NULL AND status <> ?", rs -> {
+                rows.add(new Object[] { Kind.TASK, rs.getInt(1), taskDue(rs.getTimestamp(2).toLocalDateTime()) });
+            }, TaskStatus.Completed.getDisplayName());
+            jdbcTemplate.query("SELECT project_id, due_at FROM projects WHERE due_at IS NOT NULL AND status <> ?", rs -> {
+                rows.add(new Object[] { Kind.PROJECT, rs.getInt(1), projectDue(rs.getDate(2).toLocalDate()) });
+            }, ProjectStatus.Completed.getDisplayName());
+            List<BecameOverdue> events;
+            synchronized (this) {
+                Instant now = Instant.now();
+                for (Object[] row : rows) {
+                    Kind kind = (Kind) row[0];
+                    Integer id = (Integer) row[1];
+                    Instant dueAt = (Instant) row[2];
+                    if (writtenBeforeLoad.get(kind).contains(id)) {
+                        continue;
+                    }
+                    if (dueAt.isAfter(now)) {
+                        pending.get(kind).put(id, dueAt);
+                        upcoming.add(new Entry(kind, id, dueAt));
+                    } else {
+                        overdue.get(kind).put(id, dueAt);
+                    }
+                }
+                writtenBeforeLoad.values().forEach(Set::clear);
+                loading = false;
+                ready = true;
+                events = advance();
+                logger.info("Due date scheduler loaded: {} upcoming, {} tasks and {} projects overdue",
+                        upcoming.size(), overdue.get(Kind.TASK).size(), overdue.get(Kind.PROJECT).size());
+            }
+            publish(events);
+        } catch (Exception e) {
+            if (attempt < LOAD_ATTEMPTS) {
+                Duration delay = FIRST_LOAD_RETRY.multipliedBy(1L << (attempt - 1));
+                logger.warn("Due date scheduler load failed, retrying in {}s: {}", delay.toSeconds(), e.getMessage());
+                taskScheduler.schedule(() -> load(attempt + 1), Instant.now().plus(delay));
+                return;
+            }
+            synchronized (this) {
+                loading = false;
+                writtenBeforeLoad.values().forEach(Set::clear);
+            }
+            logger.warn("Due date scheduler unavailable, overdue lists will be queried: {}", e.getMessage());
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void trackTask(Integer taskId, LocalDateTime dueDate, TaskStatus status) {
+        boolean open = dueDate != null && status != TaskStatus.Completed;
+        track(Kind.TASK, taskId, open ? taskDue(dueDate) : null);
+    }
+
+    public void trackProject(Integer projectId, LocalDate dueAt, ProjectStatus status) {
+        boolean open = dueAt != null && status != ProjectStatus.Completed;
+        track(Kind.PROJECT, projectId, open ? projectDue(dueAt) : null);
+    }
+
+    public void untrack(Kind kind, Integer id) {
+        track(kind, id, null);
+    }
+
+    // Overdue ids, earliest due date first
+    public synchronized List<Integer> overdueIds(Kind kind) {
+        return overdue.get(kind).entrySet().stream()
+                .sorted(Map.Entry.<Integer, Instant>comparingByValue().thenComparing(Map.Entry.comparingByKey()))
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private void track(Kind kind, Integer id, Instant dueAt) {
+        if (id == null) {
+            return;
+        }
+        List<BecameOverdue> events;
+        synchronized (this) {
+            if (loading) {
+                writtenBeforeLoad.get(kind).add(id);
+            } else if (!ready) {
+                // Gave up loading: nothing reads this state any more
+                return;
+            }
+            pending.get(kind).remove(id);
+            boolean wasOverdue = overdue.get(kind).remove(id) != null;
+            boolean nowOverdue = false;
+            if (dueAt != null) {
+                if (dueAt.isAfter(Instant.now())) {
+                    pending.get(kind).put(id, dueAt);
+                    upcoming.add(new Entry(kind, id, dueAt));
+                } else {
+                    overdue.get(kind).put(id, dueAt);
+                    nowOverdue = true;
+                }
+            }
+            events = advance();
+            if (nowOverdue && !wasOverdue) {
+                events.add(new BecameOverdue(kind, id, dueAt));
+            }
+        }
+        publish(events);
+    }
+
+    private void fire() {
+        List<BecameOverdue> events;
+        synchronized (this) {
+            wakeup = null;
+            wakeupAt = null;
+            events = advance();
+        }
+        publish(events);
+    }
+
+    // Moves everything that is due into the overdue set and re-arms the timer for the next item
+    private List<BecameOverdue> advance() {
+        List<BecameOverdue> events = new ArrayList<>();
+        Instant now = Instant.now();
+        while (!upcoming.isEmpty() && (isStale(upcoming.peek()) || !upcoming.peek().dueAt.isAfter(now))) {
+            Entry entry = upcoming.poll();
+            if (!isStale(entry)) {
+                pending.get(entry.kind).remove(entry.id);
+                overdue.get(entry.kind).put(entry.id, entry.dueAt);
+                events.add(new BecameOverdue(entry.kind, entry.id, entry.dueAt));
+            }
+        }
+        // Rescheduled items leave stale entries behind; drop them once they dominate the heap
+        int live = pending.get(Kind.TASK).size() + pending.get(Kind.PROJECT).size();
+        if (upcoming.size() > 2 * live + 1024) {
+            upcoming.removeIf(this::isStale);
+        }
+        Instant next = upcoming.isEmpty() ? null : upcoming.peek().dueAt;
+        if (next != null && !next.equals(wakeupAt)) {
+            if (wakeup != null) {
+                wakeup.cancel(false);
+            }
+            wakeup = taskScheduler.schedule(this::fire, next);
+            wakeupAt = next;
+        }
+        return events;
+    }
+
+    private boolean isStale(Entry entry) {
+        return !entry.dueAt.equals(pending.get(entry.kind).get(entry.id));
+    }
+
+    private void publish(List<BecameOverdue> events) {
+        for (BecameOverdue event : events) {
+            logger.debug("{} {} became overdue (due {})", event.getKind(), event.getId(), event.getDueAt());
+            eventPublisher.publishEvent(event);
+        }
+    }
+
+    // Same cut-offs as the repository queries: a task is overdue once dueDate has passed,
+    // a project once its due day is over
+    private static Instant taskDue(LocalDateTime dueDate) {
+        return dueDate.atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    private static Instant projectDue(LocalDate dueAt) {
+        return dueAt.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant();
+    }
+
+    private static class Entry {
+        private final Kind kind;
+        private final Integer id;
+        private final Instant dueAt;
+
+        Entry(Kind kind, Integer id, Instant dueAt) {
+            this.kind = kind;
+            this.id = id;
+            this.dueAt = dueAt;
+        }
+    }
+}
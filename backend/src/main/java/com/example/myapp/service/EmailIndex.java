@@ -0,0 +1,194 @@
+package com.example.myapp.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Lowercased email -> owning row for employees and clients, loaded at startup, reloaded periodically
+// and updated by the write paths after they commit. It only speeds up the duplicate checks: a miss
+// there costs no query, a hit is re-checked in the database. Rows written by another instance are
+// missing until the next reload, so a miss is never an answer for a lookup (the *EmailExists methods
+// always query), and across instances uniqueness is guaranteed by the unique index on lower(email).
+@Component
+public class EmailIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmailIndex.class);
+
+    public static final String EMPLOYEES_EMAIL_KEY = "employees_email_lower_key";
+    public static final String CLIENTS_EMAIL_KEY = "clients_email_lower_key";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final Table employees = new Table("employees", "employee_id", EMPLOYEES_EMAIL_KEY);
+    private final Table clients = new Table("clients", "client_id", CLIENTS_EMAIL_KEY);
+
+    // Runs after Hibernate has created/updated the tables
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        for (Table table : List.of(employees, clients)) {
+            try {
+                jdbcTemplate.execute("CREATE UNIQUE INDEX IF NOT EXISTS " + table.constraint + " ON " + table.name + " (lower(email))");
+            } catch (Exception e) {
+                // Typically existing duplicates; the in-memory check still stops new ones from this instance
+                logger.warn("Could not create unique index {}: {}", table.constraint, e.getMessage());
+            }
+            scan(table);
+        }
+    }
+
+    // Picks up emails written by other instances. Entries for rows deleted elsewhere are left in
+    // place; they only cost the re-check on a hit, which drops them.
+    @Scheduled(fixedDelayString = "${email-index.reload-interval-ms:300000}", initialDelayString = "${email-index.reload-interval-ms:300000}")
+    public void reload() {
+        for (Table table : List.of(employees, clients)) {
+            scan(table);
+        }
+    }
+
+    private void scan(Table table) {
+        try {
+            jdbcTemplate.query("SELECT " + table.idColumn + ", email FROM " + table.name + " WHERE email IS NOT NULL",
+                    rs -> { table.put(rs.getInt(1), rs.getString(2)); });
+            if (!table.loaded) {
+                logger.info("Loaded {} {} emails into the email index", table.owners.size(), table.name);
+            }
+            table.loaded = true;
+        } catch (Exception e) {
+            logger.warn("Email index for {} unavailable, checks will query the database: {}", table.name, e.getMessage());
+        }
+    }
+
+    public boolean isEmployeeEmailTaken(String email, Integer employeeId) {
+        return isTaken(employees, email, employeeId);
+    }
+
+    public boolean isClientEmailTaken(String email, Integer clientId) {
+        return isTaken(clients, email, clientId);
+    }
+
+    public boolean employeeEmailExists(String email) {
+        return !queryOwners(employees, email).isEmpty();
+    }
+
+    public boolean clientEmailExists(String email) {
+        return !queryOwners(clients, email).isEmpty();
+    }
+
+    public void recordEmployee(Integer employeeId, String email) {
+        afterCommit(() -> employees.put(employeeId, email));
+    }
+
+    public void recordClient(Integer clientId, String email) {
+        afterCommit(() -> clients.put(clientId, email));
+    }
+
+    public void removeEmployee(Integer employeeId) {
+        afterCommit(() -> employees.remove(employeeId));
+    }
+
+    public void removeClient(Integer clientId) {
+        afterCommit(() -> clients.remove(clientId));
+    }
+
+    public static boolean isEmailConflict(Throwable e) {
+        String message = e != null ? e.getMessage() : null;
+        return message != null && (message.contains(EMPLOYEES_EMAIL_KEY) || message.contains(CLIENTS_EMAIL_KEY));
+    }
+
+    private boolean isTaken(Table table, String email, Integer selfId) {
+        String key = normalize(email);
+        if (key == null) {
+            return false;
+        }
+        if (table.loaded) {
+            Integer owner = table.owners.get(key);
+            if (owner == null || owner.equals(selfId)) {
+                return false;
+            }
+        }
+        return queryOwners(table, email).stream().anyMatch(id -> !id.equals(selfId));
+    }
+
+    // The database answer, also used to correct the index entry for this email
+    private List<Integer> queryOwners(Table table, String email) {
+        String key = normalize(email);
+        if (key == null) {
+            return List.of();
+        }
+        List<Integer> owners = jdbcTemplate.queryForList(
+                "SELECT " + table.idColumn + " FROM " + table.name + " WHERE lower(email) = ?", Integer.class, key);
+        if (owners.isEmpty()) {
+            // Stale entry, the row was changed or deleted elsewhere
+            table.owners.remove(key);
+        } else {
+            owners.forEach(id -> table.put(id, key));
+        }
+        return owners;
+    }
+
+    // A rolled-back write must not leave its email behind
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() { action.run(); }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static String normalize(String email) {
+        // Same normalization as the lower(email) unique index
+        if (email == null || email.trim().isEmpty()) {
+            return null;
+        }
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+    private static class Table {
+        private final String name;
+        private final String idColumn;
+        private final String constraint;
+        private final Map<String, Integer> owners = new ConcurrentHashMap<>();
+        private final Map<Integer, String> emails = new ConcurrentHashMap<>();
+        private volatile boolean loaded = false;
+
+        Table(String name, String idColumn, String constraint) {
+            this.name = name;
+            this.idColumn = idColumn;
+            this.constraint = constraint;
+        }
+
+        synchronized void put(Integer id, String email) {
+            String key = normalize(email);
+            String previous = key != null ? emails.put(id, key) : emails.remove(id);
+            if (previous != null && !previous.equals(key)) {
+                owners.remove(previous, id);
+            }
+            if (key != null) {
+                owners.put(key, id);
+            }
+        }
+
+        synchronized void remove(Integer id) {
+            String previous = emails.remove(id);
+            if (previous != null) {
+                owners.remove(previous, id);
+            }
+        }
+    }
+}
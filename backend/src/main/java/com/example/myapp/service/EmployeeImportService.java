@@ -0,0 +1,416 @@
+package com.example.myapp.service;
+
+import com.example.myapp.config.ReadYourWrites;
+import com.example.myapp.dto.ImportReportDTO;
+import com.example.myapp.model.Contract;
+import com.example.myapp.model.ContractStatus;
+import com.example.myapp.model.ContractType;
+import com.example.myapp.model.Employee;
+import com.example.myapp.model.EmployeeStatus;
+import com.example.myapp.service.EmployeeService.ContractData;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+@Service
+public class EmployeeImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeImportService.class);
+
+    // Rows per transaction; each chunk is two multi-row INSERTs once the driver rewrites the batch
+    private static final int CHUNK_SIZE = 1000;
+
+    // Same names as the JSON body of POST /api/employees
+    private static final List<String> REQUIRED_COLUMNS = List.of(
+            "firstName", "lastName", "email", "hireDate", "jobTitle", "sexe",
+            "contractType", "workHours", "salary", "contractStartDate");
+
+    private static final String INSERT_EMPLOYEE =
+            "INSERT INTO employees (employee_id, first_name, last_name, email, hire_date, department_id, " +
+            "job_title, manager_id, status, age, sexe) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_CONTRACT =
+            "INSERT INTO contracts (contract_id, employee_id, contract_type, work_hours, salary, remote_available, " +
+            "start_date, end_date, benefits, status) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private KpiService kpiService;
+
+    @Autowired
+    private EmailIndex emailIndex;
+
+    @Autowired
+    private SearchIndex searchIndex;
+
+    @Autowired
+    private OrgChart orgChart;
+
+    @Autowired
+    private ChangeFeed changeFeed;
+
+    @Autowired
+    private CollectionVersions collectionVersions;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ReadYourWrites readYourWrites;
+
+    // Streams the CSV and validates each row against reference data loaded once up front,
+    // so the only per-chunk round trips are the two version bumps, the two batched INSERTs and the commit.
+    public ImportReportDTO importCsv(InputStream input) throws IOException {
+        long start = System.currentTimeMillis();
+        CsvReader csv = new CsvReader(new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), 64 * 1024), ',');
+
+        List<String> header = csv.readRecord();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV file is empty");
+        }
+        Map<String, Integer> columns = indexColumns(header);
+
+        ReferenceData refs = loadReferenceData();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        ImportReportDTO report = new ImportReportDTO();
+        List<ImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        List<String> record;
+        long total = 0;
+        try {
+            while ((record = csv.readRecord()) != null) {
+                total++;
+                long line = csv.getRecordLine();
+                try {
+                    chunk.add(parseRow(line, record, columns, refs));
+                } catch (IllegalArgumentException e) {
+                    report.addError(line, e.getMessage());
+                }
+                if (chunk.size() == CHUNK_SIZE) {
+                    writeChunk(chunk, transaction, report);
+                }
+            }
+        } catch (IOException e) {
+            // Nothing past a syntax error can be read reliably; earlier chunks are already committed,
+            // so report where the file broke and still finish those off below
+            total++;
+            report.addError(csv.getRecordLine(), "Import stopped: " + e.getMessage());
+            logger.warn("CSV import stopped at line {}: {}", csv.getRecordLine(), e.getMessage());
+        }
+        writeChunk(chunk, transaction, report);
+
+        report.setTotalRows(total);
+        report.setDurationMs(System.currentTimeMillis() - start);
+        logger.info("CSV import finished: {} rows, {} imported, {} failed in {} ms",
+                total, report.getImported(), report.getFailed(), report.getDurationMs());
+        if (report.getImported() > 0) {
+            // The JDBC inserts bypass Hibernate, so drop cached state that could now be missing rows
+            Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+            cache.evictQueryRegions();
+            kpiService.requestRefresh();
+            // One marker instead of a change per row, which could flush the whole feed buffer
+            changeFeed.recordResync("employee");
+            changeFeed.recordResync("contract");
+            readYourWrites.pin();
+        }
+        return report;
+    }
+
+    private void writeChunk(List<ImportRow> chunk, TransactionTemplate transaction, ImportReportDTO report) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            assignIds(chunk);
+            transaction.executeWithoutResult(status -> insertRows(chunk));
+            report.addImported(chunk.size());
+            chunk.forEach(this::recordImported);
+        } catch (DataAccessException e) {
+            // A single constraint violation rolls back the whole chunk; replay it row by row to find the culprits
+            logger.warn("Import chunk of {} rows failed, retrying row by row: {}", chunk.size(), e.getMostSpecificCause().getMessage());
+            for (ImportRow row : chunk) {
+                try {
+                    if (row.employee.getEmployeeId() == null) {
+                        // The chunk failed while drawing its IDs
+                        assignIds(List.of(row));
+                    }
+                    transaction.executeWithoutResult(status -> insertRows(List.of(row)));
+                    report.addImported(1);
+                    recordImported(row);
+                } catch (DataAccessException rowError) {
+                    report.addError(row.line, "Database error: " + rowError.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+        chunk.clear();
+    }
+
+    // The JDBC inserts bypass the JPA listeners that normally keep these indexes current
+    private void recordImported(ImportRow row) {
+        Employee employee = row.employee;
+        emailIndex.recordEmployee(employee.getEmployeeId(), employee.getEmail());
+        searchIndex.put(SearchIndex.EMPLOYEE, employee.getEmployeeId(), employee.getFirstName() + " " + employee.getLastName(), employee.getJobTitle());
+        orgChart.put(employee.getEmployeeId(), employee.getManagerId());
+    }
+
+    // Draws from the same sequences as Hibernate's pooled-lo optimizer: each nextval() owns the
+    // ID_ALLOCATION_SIZE values starting at the returned number, so imports and regular saves never collide.
+    private void assignIds(List<ImportRow> rows) {
+        int blocks = (rows.size() + Employee.ID_ALLOCATION_SIZE - 1) / Employee.ID_ALLOCATION_SIZE;
+        List<long[]> ranges = jdbcTemplate.query(
+                "SELECT nextval('" + Employee.ID_SEQUENCE + "'), nextval('" + Contract.ID_SEQUENCE + "') FROM generate_series(1, ?)",
+                (rs, rowNum) -> new long[] { rs.getLong(1), rs.getLong(2) }, blocks);
+        int i = 0;
+        for (long[] range : ranges) {
+            for (int offset = 0; offset < Employee.ID_ALLOCATION_SIZE && i < rows.size(); offset++, i++) {
+                rows.get(i).employee.setEmployeeId((int) (range[0] + offset));
+                rows.get(i).contractId = (int) (range[1] + offset);
+            }
+        }
+    }
+
+    // Also bumps the collection versions in the same transaction, so ETags change with every
+    // committed chunk rather than only once the whole file is in
+    private void insertRows(List<ImportRow> rows) {
+        collectionVersions.bump("employee");
+        collectionVersions.bump("contract");
+        jdbcTemplate.batchUpdate(INSERT_EMPLOYEE, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Employee employee = rows.get(i).employee;
+                ps.setInt(1, employee.getEmployeeId());
+                ps.setString(2, employee.getFirstName());
+                ps.setString(3, employee.getLastName());
+                ps.setString(4, employee.getEmail());
+                ps.setObject(5, employee.getHireDate(), Types.DATE);
+                ps.setObject(6, employee.getDepartmentId(), Types.INTEGER);
+                ps.setString(7, employee.getJobTitle());
+                ps.setObject(8, employee.getManagerId(), Types.INTEGER);
+                ps.setString(9, employee.getStatus().getDisplayName());
+                ps.setObject(10, employee.getAge(), Types.INTEGER);
+                ps.setString(11, employee.getSexe());
+            }
+
+            @Override
+            public int getBatchSize() { return rows.size(); }
+        });
+
+        jdbcTemplate.batchUpdate(INSERT_CONTRACT, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ImportRow row = rows.get(i);
+                ContractData contract = row.contract;
+                ps.setInt(1, row.contractId);
+                ps.setInt(2, row.employee.getEmployeeId());
+                ps.setString(3, contract.getContractType().getDisplayName());
+                ps.setInt(4, contract.getWorkHours());
+                ps.setBigDecimal(5, contract.getSalary());
+                ps.setBoolean(6, contract.getRemoteAvailable());
+                ps.setObject(7, contract.getStartDate(), Types.DATE);
+                ps.setObject(8, contract.getEndDate(), Types.DATE);
+                ps.setString(9, contract.getBenefits());
+                ps.setString(10, contract.getStatus().getDisplayName());
+            }
+
+            @Override
+            public int getBatchSize() { return rows.size(); }
+        });
+    }
+
+    // Applies the same rules as saveEmployeeWithContract, with the foreign key checks done in memory
+    private ImportRow parseRow(long line, List<String> record, Map<String, Integer> columns, ReferenceData refs) {
+        Employee employee = new Employee();
+        employee.setFirstName(text(record, columns, "firstName"));
+        employee.setLastName(text(record, columns, "lastName"));
+        employee.setEmail(text(record, columns, "email"));
+        employee.setHireDate(date(record, columns, "hireDate"));
+        employee.setJobTitle(text(record, columns, "jobTitle"));
+        employee.setDepartmentId(integer(record, columns, "departmentId"));
+        employee.setManagerId(integer(record, columns, "managerId"));
+        EmployeeStatus status = enumValue(record, columns, "status", EmployeeStatus.class, EmployeeStatus::getDisplayName);
+        employee.setStatus(status != null ? status : EmployeeStatus.Active);
+        employee.setAge(integer(record, columns, "age"));
+        employee.setSexe(text(record, columns, "sexe"));
+        EmployeeService.validateEmployeeFields(employee);
+
+        if (employee.getDepartmentId() != null && !refs.departmentHeads.containsKey(employee.getDepartmentId())) {
+            throw new IllegalArgumentException("Invalid department ID: " + employee.getDepartmentId());
+        }
+        if (employee.getManagerId() != null && !refs.employeeIds.contains(employee.getManagerId())) {
+            throw new IllegalArgumentException("Invalid manager ID: " + employee.getManagerId());
+        }
+        if (employee.getDepartmentId() != null && employee.getManagerId() != null) {
+            Integer head = refs.departmentHeads.get(employee.getDepartmentId());
+            if (head != null && !head.equals(employee.getManagerId())) {
+                throw new IllegalArgumentException("Manager ID does not match the department's head employee");
+            }
+        }
+
+        ContractData contract = new ContractData();
+        contract.setContractType(enumValue(record, columns, "contractType", ContractType.class, ContractType::getDisplayName));
+        contract.setWorkHours(integer(record, columns, "workHours"));
+        contract.setSalary(decimal(record, columns, "salary"));
+        Boolean remote = bool(record, columns, "remoteAvailable");
+        contract.setRemoteAvailable(remote != null ? remote : Boolean.FALSE);
+        contract.setStartDate(date(record, columns, "contractStartDate"));
+        contract.setEndDate(date(record, columns, "contractEndDate"));
+        contract.setBenefits(text(record, columns, "benefits"));
+        ContractStatus contractStatus = enumValue(record, columns, "contractStatus", ContractStatus.class, ContractStatus::getDisplayName);
+        contract.setStatus(contractStatus != null ? contractStatus : ContractStatus.Active);
+        EmployeeService.validateContractData(contract);
+
+        // Duplicates within the file are caught here, existing employees by the in-memory email index;
+        // the email is only claimed once the row is otherwise valid
+        if (emailIndex.isEmployeeEmailTaken(employee.getEmail(), null) || !refs.emails.add(employee.getEmail().toLowerCase(Locale.ROOT))) {
+            throw new IllegalArgumentException("Employee with email " + employee.getEmail() + " already exists");
+        }
+
+        return new ImportRow(line, employee, contract);
+    }
+
+    private ReferenceData loadReferenceData() {
+        ReferenceData refs = new ReferenceData();
+        jdbcTemplate.query("SELECT department_id, head_employee_id FROM departments", rs -> {
+            refs.departmentHeads.put(rs.getInt(1), (Integer) rs.getObject(2));
+        });
+        jdbcTemplate.query("SELECT employee_id FROM employees", rs -> {
+            refs.employeeIds.add(rs.getInt(1));
+        });
+        logger.debug("Loaded {} departments and {} employee IDs for import", refs.departmentHeads.size(), refs.employeeIds.size());
+        return refs;
+    }
+
+    private static Map<String, Integer> indexColumns(List<String> header) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).trim();
+            if (i == 0 && name.startsWith("\uFEFF")) {
+                name = name.substring(1);
+            }
+            columns.put(name, i);
+        }
+        List<String> missing = REQUIRED_COLUMNS.stream().filter(name -> !columns.containsKey(name)).toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("Missing CSV columns: " + String.join(", ", missing));
+        }
+        return columns;
+    }
+
+    private static String text(List<String> record, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static Integer integer(List<String> record, Map<String, Integer> columns, String column) {
+        String value = text(record, columns, column);
+        try {
+            return value != null ? Integer.valueOf(value) : null;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + column + ": " + value);
+        }
+    }
+
+    private static BigDecimal decimal(List<String> record, Map<String, Integer> columns, String column) {
+        String value = text(record, columns, column);
+        try {
+            return value != null ? new BigDecimal(value) : null;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + column + ": " + value);
+        }
+    }
+
+    private static LocalDate date(List<String> record, Map<String, Integer> columns, String column) {
+        String value = text(record, columns, column);
+        try {
+            return value != null ? LocalDate.parse(value) : null;
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid " + column + " (expected yyyy-MM-dd): " + value);
+        }
+    }
+
+    private static Boolean bool(List<String> record, Map<String, Integer> columns, String column) {
+        String value = text(record, columns, column);
+        if (value == null) {
+            return null;
+        }
+        if (value.equalsIgnoreCase("true") || value.equals("1")) {
+            return Boolean.TRUE;
+        }
+        if (value.equalsIgnoreCase("false") || value.equals("0")) {
+            return Boolean.FALSE;
+        }
+        throw new IllegalArgumentException("Invalid " + column + ": " + value);
+    }
+
+    // Accepts either the stored display name ("On Leave") or the constant name (ON_LEAVE)
+    private static <E extends Enum<E>> E enumValue(List<String> record, Map<String, Integer> columns, String column,
+                                                   Class<E> type, Function<E, String> displayName) {
+        String value = text(record, columns, column);
+        if (value == null) {
+            return null;
+        }
+        for (E constant : type.getEnumConstants()) {
+            if (displayName.apply(constant).equalsIgnoreCase(value) || constant.name().equalsIgnoreCase(value)) {
+                return constant;
+            }
+        }
+        throw new IllegalArgumentException("Invalid " + column + ": " + value);
+    }
+
+    private static class ReferenceData {
+        private final Map<Integer, Integer> departmentHeads = new HashMap<>();
+        private final Set<Integer> employeeIds = new HashSet<>();
+        private final Set<String> emails = new HashSet<>();
+    }
+
+    private static class ImportRow {
+        private final long line;
+        private final Employee employee;
+        private final ContractData contract;
+        private int contractId;
+
+        ImportRow(long line, Employee employee, ContractData contract) {
+            this.line = line;
+            this.employee = employee;
+            this.contract = contract;
+        }
+    }
+}
@@ -3,13 +3,16 @@ package com.example.myapp.service;
 import com.example.myapp.model.Contract;
 import com.example.myapp.model.ContractStatus;
 import com.example.myapp.model.ContractType;
-import com.example.myapp.model.Department;
 import com.example.myapp.model.Employee;
 import com.example.myapp.model.EmployeeStatus;
 import com.example.myapp.repository.ContractRepository;
 import com.example.myapp.repository.DepartmentRepository;
+import com.example.myapp.repository.DepartmentRepository.ReferenceCheck;
 import com.example.myapp.repository.EmployeeRepository;
+import com.example.myapp.dto.CursorPage;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,13 +22,20 @@ import org.slf4j.LoggerFactory;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.regex.Pattern;
 
 @Service
 @Transactional
 public class EmployeeService {
     
     private static final Logger logger = LoggerFactory.getLogger(EmployeeService.class);
+
+    // Per-step latency of saveEmployeeWithContract, tagged step=references|insert
+    private static final String CREATE_STEP_TIMER = "employee.create.step";
+
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[\\w-\\.]+@([\\w-]+\\.)+[\\w-]{2,4}$");
     
     @Autowired
     private EmployeeRepository employeeRepository;
@@ -35,11 +45,29 @@ public class EmployeeService {
     
     @Autowired
     private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EmailIndex emailIndex;
     
+    @Transactional(readOnly = true)
     public List<Employee> getAllEmployees() {
         return employeeRepository.findAll();
     }
     
+    @Transactional(readOnly = true)
+    public CursorPage<Employee> getEmployeesPage(String after, Integer limit) {
+        int pageSize = CursorPage.clampLimit(limit);
+        List<Employee> rows = employeeRepository.findByEmployeeIdGreaterThanOrderByEmployeeIdAsc(CursorPage.decodeCursor(after), Limit.of(pageSize + 1));
+        return CursorPage.of(rows, pageSize, Employee::getEmployeeId);
+    }
+    
+    @Transactional(readOnly = true)
     public Optional<Employee> getEmployeeById(Integer id) {
         return employeeRepository.findById(id);
     }
@@ -55,22 +83,23 @@ public class EmployeeService {
         }
         
         // Only validate email uniqueness if email is provided and not empty
-        if (employee.getEmail() != null && !employee.getEmail().trim().isEmpty()) {
-            Employee existingByEmail = employeeRepository.findByEmail(employee.getEmail());
-            if (existingByEmail != null && !existingByEmail.getEmployeeId().equals(employee.getEmployeeId())) {
-                throw new IllegalArgumentException("Employee with email " + employee.getEmail() + " already exists");
-            }
+        if (emailIndex.isEmployeeEmailTaken(employee.getEmail(), employee.getEmployeeId())) {
+            throw new IllegalArgumentException("Employee with email " + employee.getEmail() + " already exists");
         }
         
-        // Generate a random integer between 1000 and 9999 for new employees
-        
-        int randomId = (int) (Math.random() * 9000) + 1000;
-        employee.setEmployeeId(randomId);
-        
-        
+        // New employees (null ID) get theirs from the pooled employee_id_seq on persist
         try {
-            return employeeRepository.save(employee);
+            if (employee.getEmployeeId() != null) {
+                departmentService.evictIfDepartmentHead(employee.getEmployeeId());
+            }
+            Employee saved = employeeRepository.saveAndFlush(employee);
+            emailIndex.recordEmployee(saved.getEmployeeId(), saved.getEmail());
+            return saved;
         } catch (DataIntegrityViolationException e) {
+            // Another instance took the email between the check above and the insert
+            if (EmailIndex.isEmailConflict(e.getMostSpecificCause())) {
+                throw new IllegalArgumentException("Employee with email " + employee.getEmail() + " already exists");
+            }
             if (e.getMessage().contains("duplicate key")) {
                 throw new IllegalArgumentException("Employee data conflicts with existing records. Please check employee ID and email uniqueness."+e.getMessage());
             }
@@ -100,9 +129,8 @@ public class EmployeeService {
             employee.setLastName(employeeDetails.getLastName());
             
             // Check email uniqueness only if email is being changed
-            if (!employee.getEmail().equals(employeeDetails.getEmail())) {
-                Employee existingEmployee = employeeRepository.findByEmail(employeeDetails.getEmail());
-                if (existingEmployee != null && !existingEmployee.getEmployeeId().equals(id)) {
+            if (!Objects.equals(employee.getEmail(), employeeDetails.getEmail())) {
+                if (emailIndex.isEmployeeEmailTaken(employeeDetails.getEmail(), id)) {
                     throw new IllegalArgumentException("Email " + employeeDetails.getEmail() + " is already in use");
                 }
                 employee.setEmail(employeeDetails.getEmail());
@@ -115,112 +143,74 @@ public class EmployeeService {
             employee.setAge(employeeDetails.getAge());
             employee.setSexe(employeeDetails.getSexe());
             
-            return employeeRepository.save(employee);
+            departmentService.evictIfDepartmentHead(id);
+            try {
+                Employee saved = employeeRepository.saveAndFlush(employee);
+                emailIndex.recordEmployee(id, saved.getEmail());
+                return saved;
+            } catch (DataIntegrityViolationException e) {
+                // Another instance took the email between the check above and the update
+                if (EmailIndex.isEmailConflict(e.getMostSpecificCause())) {
+                    throw new IllegalArgumentException("Email " + employeeDetails.getEmail() + " is already in use");
+                }
+                throw e;
+            }
         }
         throw new IllegalArgumentException("Employee with ID " + id + " not found");
     }
     @Transactional
     public Employee saveEmployeeWithContract(Employee employee, ContractData contractData) {
-        logger.info("Starting saveEmployeeWithContract for employee: {}", employee);
+        logger.debug("Starting saveEmployeeWithContract for department {}", employee.getDepartmentId());
         
         // Validate Employee
         logger.debug("Validating employee data");
-        if (employee.getFirstName() == null || employee.getFirstName().trim().isEmpty()) {
-            logger.error("Validation failed: First name is required");
-            throw new IllegalArgumentException("First name is required");
-        }
-        if (employee.getLastName() == null || employee.getLastName().trim().isEmpty()) {
-            logger.error("Validation failed: Last name is required");
-            throw new IllegalArgumentException("Last name is required");
-        }
-        if (employee.getEmail() == null || !employee.getEmail().matches("^[\\w-\\.]+@([\\w-]+\\.)+[\\w-]{2,4}$")) {
-            logger.error("Validation failed: Invalid email format: {}", employee.getEmail());
-            throw new IllegalArgumentException("Valid email is required");
-        }
-        if (employee.getHireDate() == null) {
-            logger.error("Validation failed: Hire date is required");
-            throw new IllegalArgumentException("Hire date is required");
-        }
-        if (employee.getJobTitle() == null || employee.getJobTitle().trim().isEmpty()) {
-            logger.error("Validation failed: Job title is required");
-            throw new IllegalArgumentException("Job title is required");
-        }
-        if (employee.getAge() != null && (employee.getAge() < 18 || employee.getAge() > 70)) {
-            logger.error("Validation failed: Invalid age: {}", employee.getAge());
-            throw new IllegalArgumentException("Age must be between 18 and 70");
+        try {
+            validateEmployeeFields(employee);
+            validateContractData(contractData);
+        } catch (IllegalArgumentException e) {
+            logger.error("Validation failed: {}", e.getMessage());
+            throw e;
         }
-        if (employee.getSexe() == null || employee.getSexe().trim().isEmpty()) {
-            logger.error("Validation failed: Gender is required");
-            throw new IllegalArgumentException("Gender is required");
+        if (emailIndex.isEmployeeEmailTaken(employee.getEmail(), null)) {
+            logger.error("Validation failed: duplicate email {}", employee.getEmail());
+            throw new IllegalArgumentException("Employee with email " + employee.getEmail() + " already exists");
         }
 
-        // Validate foreign keys
-        logger.debug("Validating foreign keys");
-        if (employee.getDepartmentId() != null) {
-            logger.debug("Checking department ID: {}", employee.getDepartmentId());
-            if (!departmentRepository.existsById(employee.getDepartmentId())) {
+        // Validate foreign keys and the department head in a single round trip
+        if (employee.getDepartmentId() != null || employee.getManagerId() != null) {
+            logger.debug("Validating department {} and manager {}", employee.getDepartmentId(), employee.getManagerId());
+            ReferenceCheck references = meterRegistry.timer(CREATE_STEP_TIMER, "step", "references")
+                    .record(() -> departmentRepository.checkReferences(employee.getDepartmentId(), employee.getManagerId()));
+            if (employee.getDepartmentId() != null && !references.getDepartmentExists()) {
                 logger.error("Validation failed: Invalid department ID: {}", employee.getDepartmentId());
                 throw new IllegalArgumentException("Invalid department ID: " + employee.getDepartmentId());
             }
-        }
-        if (employee.getManagerId() != null) {
-            logger.debug("Checking manager ID: {}", employee.getManagerId());
-            if (!employeeRepository.existsById(employee.getManagerId())) {
+            if (employee.getManagerId() != null && !references.getManagerExists()) {
                 logger.error("Validation failed: Invalid manager ID: {}", employee.getManagerId());
                 throw new IllegalArgumentException("Invalid manager ID: " + employee.getManagerId());
             }
-        }
-        
-        // Validate managerId matches department's headEmployeeId
-        if (employee.getDepartmentId() != null && employee.getManagerId() != null) {
-            logger.debug("Validating manager ID matches department head");
-            Department department = departmentRepository.findById(employee.getDepartmentId())
-                    .orElseThrow(() -> {
-                        logger.error("Department not found with ID: {}", employee.getDepartmentId());
-                        return new IllegalArgumentException("Department not found");
-                    });
-            if (department.getHeadEmployeeId() != null && !department.getHeadEmployeeId().equals(employee.getManagerId())) {
-                logger.error("Manager ID {} does not match department head {}", employee.getManagerId(), department.getHeadEmployeeId());
+            // Validate managerId matches department's headEmployeeId
+            Integer headEmployeeId = references.getHeadEmployeeId();
+            if (employee.getDepartmentId() != null && employee.getManagerId() != null
+                    && headEmployeeId != null && !headEmployeeId.equals(employee.getManagerId())) {
+                logger.error("Manager ID {} does not match department head {}", employee.getManagerId(), headEmployeeId);
                 throw new IllegalArgumentException("Manager ID does not match the department's head employee");
             }
         }
 
-        // Validate ContractData
-        logger.debug("Validating contract data");
-        if (contractData.getContractType() == null) {
-            logger.error("Validation failed: Contract type is required");
-            throw new IllegalArgumentException("Contract type is required");
-        }
-        if (contractData.getWorkHours() == null || contractData.getWorkHours() <= 0) {
-            logger.error("Validation failed: Invalid work hours: {}", contractData.getWorkHours());
-            throw new IllegalArgumentException("Valid work hours are required");
-        }
-        if (contractData.getSalary() == null || contractData.getSalary().compareTo(BigDecimal.ZERO) <= 0) {
-            logger.error("Validation failed: Invalid salary: {}", contractData.getSalary());
-            throw new IllegalArgumentException("Valid salary is required");
-        }
-        if (contractData.getStartDate() == null) {
-            logger.error("Validation failed: Contract start date is required");
-            throw new IllegalArgumentException("Contract start date is required");
-        }
-
         try {
             logger.info("All validations passed, proceeding with save operation");
             
-            // Generate a random integer between 1000 and 9999 for new employees
-            int randomId = (int) (Math.random() * 9000) + 1000;
-            logger.debug("Generated employee ID: {}", randomId);
-            employee.setEmployeeId(randomId);
-            
-            // Save employee
+            // IDs come from the pooled sequences, see Employee.ID_SEQUENCE
+            employee.setEmployeeId(null);
+
+            // Save employee; the INSERT is deferred to the flush below
             logger.debug("Saving employee to database");
             Employee savedEmployee = employeeRepository.save(employee);
-            logger.info("Employee saved successfully with ID: {}", savedEmployee.getEmployeeId());
 
             // Create and save contract
             logger.debug("Creating contract for employee");
             Contract contract = new Contract();
-            contract.setContractId(randomId);
             contract.setEmployeeId(savedEmployee.getEmployeeId());
             contract.setContractType(contractData.getContractType());
             contract.setWorkHours(contractData.getWorkHours());
@@ -231,48 +221,104 @@ public class EmployeeService {
             contract.setBenefits(contractData.getBenefits());
             contract.setStatus(contractData.getStatus() != null ? contractData.getStatus() : ContractStatus.Active);
 
+            // Flush now so constraint violations are reported below rather than at commit. This is still
+            // two INSERT statements (employee, then contract): batching only groups rows of one table
             logger.debug("Saving contract to database");
-            contractRepository.save(contract);
-            logger.info("Contract saved successfully with ID: {}", contract.getContractId());
+            meterRegistry.timer(CREATE_STEP_TIMER, "step", "insert").record(() -> contractRepository.saveAndFlush(contract));
+            logger.info("Employee {} saved with contract {}", savedEmployee.getEmployeeId(), contract.getContractId());
+            emailIndex.recordEmployee(savedEmployee.getEmployeeId(), savedEmployee.getEmail());
 
             return savedEmployee;
         } catch (DataIntegrityViolationException e) {
             logger.error("Database constraint violation while saving employee/contract", e);
+            if (EmailIndex.isEmailConflict(e.getMostSpecificCause())) {
+                throw new IllegalArgumentException("Employee with email " + employee.getEmail() + " already exists", e);
+            }
             throw new IllegalArgumentException("Database constraint violation: " + e.getRootCause().getMessage(), e);
         } catch (Exception e) {
             logger.error("Unexpected error while saving employee with contract", e);
             throw new RuntimeException("Failed to create employee with contract: " + e.getMessage(), e);
         }
     }
+
+    // Field-level checks shared by saveEmployeeWithContract and the bulk import. Static so that
+    // callers do not go through the transactional proxy for what is a pure in-memory check.
+    public static void validateEmployeeFields(Employee employee) {
+        if (employee.getFirstName() == null || employee.getFirstName().trim().isEmpty()) {
+            throw new IllegalArgumentException("First name is required");
+        }
+        if (employee.getLastName() == null || employee.getLastName().trim().isEmpty()) {
+            throw new IllegalArgumentException("Last name is required");
+        }
+        if (employee.getEmail() == null || !EMAIL_PATTERN.matcher(employee.getEmail()).matches()) {
+            throw new IllegalArgumentException("Valid email is required");
+        }
+        if (employee.getHireDate() == null) {
+            throw new IllegalArgumentException("Hire date is required");
+        }
+        if (employee.getJobTitle() == null || employee.getJobTitle().trim().isEmpty()) {
+            throw new IllegalArgumentException("Job title is required");
+        }
+        if (employee.getAge() != null && (employee.getAge() < 18 || employee.getAge() > 70)) {
+            throw new IllegalArgumentException("Age must be between 18 and 70");
+        }
+        if (employee.getSexe() == null || employee.getSexe().trim().isEmpty()) {
+            throw new IllegalArgumentException("Gender is required");
+        }
+    }
+
+    public static void validateContractData(ContractData contractData) {
+        if (contractData.getContractType() == null) {
+            throw new IllegalArgumentException("Contract type is required");
+        }
+        if (contractData.getWorkHours() == null || contractData.getWorkHours() <= 0) {
+            throw new IllegalArgumentException("Valid work hours are required");
+        }
+        if (contractData.getSalary() == null || contractData.getSalary().compareTo(BigDecimal.ZERO) <= 0) {
+            throw new IllegalArgumentException("Valid salary is required");
+        }
+        if (contractData.getStartDate() == null) {
+            throw new IllegalArgumentException("Contract start date is required");
+        }
+    }
+
     public void deleteEmployee(Integer id) {
         if (!employeeRepository.existsById(id)) {
             throw new IllegalArgumentException("Employee with ID " + id + " not found");
         }
+        departmentService.evictIfDepartmentHead(id);
         employeeRepository.deleteById(id);
+        emailIndex.removeEmployee(id);
     }
     
+    @Transactional(readOnly = true)
     public List<Employee> searchEmployeesByName(String name) {
         return employeeRepository.findByFirstNameContainingIgnoreCaseOrLastNameContainingIgnoreCase(name, name);
     }
     
+    @Transactional(readOnly = true)
     public List<Employee> getEmployeesByDepartment(Integer departmentId) {
         return employeeRepository.findByDepartmentId(departmentId);
     }
     
+    @Transactional(readOnly = true)
     public List<Employee> getEmployeesByManager(Integer managerId) {
         return employeeRepository.findByManagerId(managerId);
     }
     
+    @Transactional(readOnly = true)
     public List<Employee> getEmployeesByStatus(EmployeeStatus status) {
         return employeeRepository.findByStatus(status);
     }
     
+    @Transactional(readOnly = true)
     public Employee getEmployeeByEmail(String email) {
         return employeeRepository.findByEmail(email);
     }
     
+    @Transactional(readOnly = true)
     public boolean existsByEmail(String email) {
-        return employeeRepository.findByEmail(email) != null;
+        return emailIndex.employeeEmailExists(email);
     }
     // Helper class to hold contract data
     public static class ContractData {
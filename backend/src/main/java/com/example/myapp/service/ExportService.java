@@ -0,0 +1,143 @@
+package com.example.myapp.service;
+
+import com.example.myapp.config.BinaryFormats;
+import com.example.myapp.config.Reporting;
+import com.example.myapp.repository.ClientRepository;
+import com.example.myapp.repository.ContractRepository;
+import com.example.myapp.repository.DepartmentRepository;
+import com.example.myapp.repository.EmployeeHistoryRepository;
+import com.example.myapp.repository.EmployeeRepository;
+import com.example.myapp.repository.ProjectRepository;
+import com.example.myapp.repository.TaskRepository;
+import com.example.myapp.repository.TicketRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+@Service
+public class ExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportService.class);
+
+    // Matches the fetch size hint on the repositories' streamAll() queries
+    private static final int FLUSH_EVERY = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private BinaryFormats binaryFormats;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeHistoryRepository employeeHistoryRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private ContractRepository contractRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    private final Map<String, Supplier<Stream<?>>> sources = new LinkedHashMap<>();
+
+    @PostConstruct
+    void registerSources() {
+        sources.put("employees", employeeRepository::streamAll);
+        sources.put("employee-history", employeeHistoryRepository::streamAll);
+        sources.put("tasks", taskRepository::streamAll);
+        sources.put("tickets", ticketRepository::streamAll);
+        sources.put("projects", projectRepository::streamAll);
+        sources.put("clients", clientRepository::streamAll);
+        sources.put("contracts", contractRepository::streamAll);
+        sources.put("departments", departmentRepository::streamAll);
+    }
+
+    public Set<String> getExportableEntities() {
+        return sources.keySet();
+    }
+
+    public boolean supports(String entity) {
+        return sources.containsKey(entity);
+    }
+
+    // Writes one JSON document per line, or with a binary format (BinaryFormats.SMILE_FORMAT /
+    // CBOR_FORMAT) a stream of back-to-back root values. Rows come through a server-side cursor and
+    // are detached once written, so memory use does not grow with the table.
+    @Reporting("export")
+    @Transactional(readOnly = true)
+    public long export(String entity, String format, OutputStream out) throws IOException {
+        Supplier<Stream<?>> source = sources.get(entity);
+        if (source == null) {
+            throw new IllegalArgumentException("Unknown export entity: " + entity);
+        }
+
+        boolean ndjson = BinaryFormats.JSON_FORMAT.equals(format);
+        ObjectMapper mapper = ndjson ? objectMapper
+                : BinaryFormats.SMILE_FORMAT.equals(format) ? binaryFormats.smileMapper() : binaryFormats.cborMapper();
+        ObjectWriter writer = mapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long count = 0;
+        try (Stream<?> rows = source.get();
+             JsonGenerator generator = mapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            if (ndjson) {
+                generator.setRootValueSeparator(new SerializedString("\n"));
+            }
+
+            Iterator<?> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                Object row = iterator.next();
+                writer.writeValue(generator, row);
+                entityManager.detach(row);
+                count++;
+
+                // Flush the first row right away so the client sees bytes immediately
+                if (count == 1 || count % FLUSH_EVERY == 0) {
+                    generator.flush();
+                    entityManager.clear();
+                }
+            }
+            if (ndjson && count > 0) {
+                generator.writeRaw('\n');
+            }
+            generator.flush();
+        }
+        logger.info("Exported {} {} rows as {}", count, entity, ndjson ? "NDJSON" : format);
+        return count;
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.myapp.service;
+
+import com.example.myapp.dto.KpiTileDTO;
+import com.example.myapp.model.ContractStatus;
+import com.example.myapp.model.EmployeeStatus;
+import com.example.myapp.model.ProjectStatus;
+import com.example.myapp.model.TicketStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+@Service
+public class KpiService {
+
+    private static final Logger logger = LoggerFactory.getLogger(KpiService.class);
+
+    // One single-purpose materialized view per tile group, each row is (tile, value, refreshed_at).
+    // A unique index on tile is what allows REFRESH ... CONCURRENTLY, so readers never wait on a refresh.
+    private static final Map<String, String> VIEWS = new LinkedHashMap<>();
+
+    static {
+        VIEWS.put("kpi_workforce",
+                "SELECT k.tile, k.value, now() AS refreshed_at " +
+                "FROM (SELECT COUNT(*) FILTER (WHERE status <> '" + EmployeeStatus.Inactive.getDisplayName() + "') AS headcount, " +
+                "             COUNT(*) FILTER (WHERE status = '" + EmployeeStatus.ON_LEAVE.getDisplayName() + "') AS on_leave, " +
+                "             COUNT(*) AS total FROM employees) e " +
+                "CROSS JOIN LATERAL (VALUES ('headcount', e.headcount), ('employeesOnLeave', e.on_leave), " +
+                "                           ('totalEmployees', e.total), " +
+                "                           ('departments', (SELECT COUNT(*) FROM departments))) AS k(tile, value)");
+        VIEWS.put("kpi_projects",
+                "SELECT k.tile, k.value, now() AS refreshed_at " +
+                "FROM (SELECT COUNT(*) FILTER (WHERE status = '" + ProjectStatus.IN_PROGRESS.getDisplayName() + "') AS active, " +
+                "             COUNT(*) FILTER (WHERE due_at < current_date AND status <> '" + ProjectStatus.Completed.getDisplayName() + "') AS overdue, " +
+                "             COUNT(*) AS total FROM projects) p " +
+                "CROSS JOIN LATERAL (VALUES ('activeProjects', p.active), ('overdueProjects', p.overdue), " +
+                "                           ('totalProjects', p.total), " +
+                "                           ('clients', (SELECT COUNT(*) FROM clients))) AS k(tile, value)");
+        VIEWS.put("kpi_contracts",
+                "SELECT k.tile, k.value, now() AS refreshed_at " +
+                "FROM (SELECT COUNT(*) FILTER (WHERE status = '" + ContractStatus.Active.getDisplayName() + "') AS active, " +
+                "             COUNT(*) FILTER (WHERE status = '" + ContractStatus.Active.getDisplayName() + "' AND remote_available) AS remote " +
+                "      FROM contracts) c " +
+                "CROSS JOIN LATERAL (VALUES ('activeContracts', c.active), ('remoteContracts', c.remote)) AS k(tile, value)");
+        VIEWS.put("kpi_tickets",
+                "SELECT k.tile, k.value, now() AS refreshed_at " +
+                "FROM (SELECT COUNT(*) FILTER (WHERE status IN ('" + TicketStatus.Open.getDisplayName() + "', '" +
+                                TicketStatus.IN_PROGRESS.getDisplayName() + "', '" + TicketStatus.Reopened.getDisplayName() + "')) AS open_count, " +
+                "             COUNT(*) FILTER (WHERE status = '" + TicketStatus.Resolved.getDisplayName() + "') AS resolved, " +
+                "             COUNT(*) AS total FROM tickets) t " +
+                "CROSS JOIN LATERAL (VALUES ('openTickets', t.open_count), ('resolvedTickets', t.resolved), " +
+                "                           ('ticketResolutionRate', CASE WHEN t.total = 0 THEN 0 ELSE round(100.0 * t.resolved / t.total)::bigint END)) AS k(tile, value)");
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    private volatile boolean viewsReady = false;
+    private final AtomicBoolean refreshRunning = new AtomicBoolean(false);
+    private final AtomicBoolean refreshQueued = new AtomicBoolean(false);
+    private final AtomicBoolean refreshPending = new AtomicBoolean(false);
+
+    // Runs after Hibernate has created/updated the tables the views select from
+    @EventListener(ApplicationReadyEvent.class)
+    public void createViews() {
+        try {
+            for (Map.Entry<String, String> view : VIEWS.entrySet()) {
+                jdbcTemplate.execute("CREATE MATERIALIZED VIEW IF NOT EXISTS " + view.getKey() + " AS " + view.getValue());
+                jdbcTemplate.execute("CREATE UNIQUE INDEX IF NOT EXISTS " + view.getKey() + "_tile_idx ON " + view.getKey() + " (tile)");
+            }
+            viewsReady = true;
+            logger.info("KPI materialized views ready: {}", VIEWS.keySet());
+        } catch (Exception e) {
+            logger.warn("KPI materialized views unavailable, tiles will be computed live: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${kpi.refresh-interval-ms:300000}", initialDelayString = "${kpi.refresh-interval-ms:300000}")
+    public void scheduledRefresh() {
+        refreshAll();
+    }
+
+    // For callers that just did a bulk write; coalesces bursts of requests into one refresh
+    public void requestRefresh() {
+        if (refreshQueued.compareAndSet(false, true)) {
+            taskScheduler.schedule(() -> {
+                refreshQueued.set(false);
+                refreshAll();
+            }, Instant.now());
+        }
+    }
+
+    public void refreshAll() {
+        refreshPending.set(true);
+        if (!viewsReady) {
+            return;
+        }
+        // A refresh already in progress will see the pending flag and run once more. A request that
+        // lands after the loop's last check but before the running flag is released found the flag
+        // still set and returned, so the pending flag is checked again once it is released.
+        while (refreshPending.get() && refreshRunning.compareAndSet(false, true)) {
+            try {
+                while (refreshPending.getAndSet(false)) {
+                    refreshViews();
+                }
+            } finally {
+                refreshRunning.set(false);
+            }
+        }
+    }
+
+    private void refreshViews() {
+        for (String view : VIEWS.keySet()) {
+            long start = System.nanoTime();
+            try {
+                jdbcTemplate.execute("REFRESH MATERIALIZED VIEW CONCURRENTLY " + view);
+                logger.debug("Refreshed {} in {} ms", view, (System.nanoTime() - start) / 1_000_000);
+            } catch (Exception e) {
+                // The previous snapshot stays readable; its staleness keeps growing until a refresh succeeds
+                logger.warn("Failed to refresh {}: {}", view, e.getMessage());
+            }
+        }
+    }
+
+    public List<KpiTileDTO> getTiles() {
+        String sql = VIEWS.entrySet().stream()
+                .map(view -> "SELECT '" + view.getKey() + "' AS source, tile, value, refreshed_at FROM "
+                        + (viewsReady ? view.getKey() : "(" + view.getValue() + ") " + view.getKey()))
+                .collect(Collectors.joining(" UNION ALL "));
+        Instant now = Instant.now();
+        return jdbcTemplate.query(sql, (rs, rowNum) -> {
+            Timestamp refreshed = rs.getTimestamp("refreshed_at");
+            Instant refreshedAt = refreshed != null ? refreshed.toInstant() : now;
+            long staleness = Math.max(0, Duration.between(refreshedAt, now).getSeconds());
+            return new KpiTileDTO(rs.getString("tile"), rs.getString("source"), rs.getLong("value"), refreshedAt, staleness);
+        });
+    }
+}
@@ -0,0 +1,200 @@
+package com.example.myapp.service;
+
+import com.example.myapp.dto.OrgChartDTO;
+import com.example.myapp.dto.OrgChartDTO.OrgNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+// The manager -> report hierarchy as flat int arrays. Children are stored CSR style (the reports
+// of node i are children[childStart[i] .. childStart[i + 1])), and a depth-first numbering gives
+// every subtree a contiguous interval of the visit order. Span of control and headcount are then
+// O(1), all transitive reports O(k), and the chain to the top O(depth), with no SQL per query.
+//
+// managerId changes only touch the id -> manager map; the arrays are rebuilt in O(n) on the next
+// read, so a burst of writes costs a single rebuild.
+@Component
+public class OrgChart {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrgChart.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // employeeId -> managerId (null at the top); loaded on first use, guarded by this
+    private Map<Integer, Integer> managers;
+    private volatile Snapshot snapshot;
+
+    public void put(Integer employeeId, Integer managerId) {
+        synchronized (this) {
+            // Not loaded yet: the first load reads the committed row anyway
+            if (managers == null || employeeId == null) {
+                return;
+            }
+            if (!managers.containsKey(employeeId) || !Objects.equals(managers.get(employeeId), managerId)) {
+                managers.put(employeeId, managerId);
+                snapshot = null;
+            }
+        }
+    }
+
+    public void remove(Integer employeeId) {
+        synchronized (this) {
+            if (managers != null && managers.containsKey(employeeId)) {
+                managers.remove(employeeId);
+                snapshot = null;
+            }
+        }
+    }
+
+    // depth limits the listed reports (1 = direct reports only); null lists the whole subtree
+    public Optional<OrgChartDTO> describe(int employeeId, Integer depth) {
+        Snapshot s = snapshot();
+        int node = Arrays.binarySearch(s.ids, employeeId);
+        if (node < 0) {
+            return Optional.empty();
+        }
+        List<Integer> chain = new ArrayList<>();
+        for (int p = s.parent[node]; p >= 0; p = s.parent[p]) {
+            chain.add(s.ids[p]);
+        }
+        // No subtree is deeper than the number of employees, which also keeps the sum from overflowing
+        int maxLevel = depth == null ? Integer.MAX_VALUE : s.level[node] + Math.min(depth, s.ids.length);
+        List<OrgNode> reports = new ArrayList<>();
+        for (int k = s.enter[node] + 1; k < s.exit[node]; k++) {
+            int report = s.order[k];
+            if (s.level[report] <= maxLevel) {
+                reports.add(new OrgNode(s.ids[report], s.ids[s.parent[report]], s.level[report] - s.level[node]));
+            }
+        }
+        int span = s.childStart[node + 1] - s.childStart[node];
+        int headcount = s.exit[node] - s.enter[node] - 1;
+        return Optional.of(new OrgChartDTO(employeeId, chain, span, headcount, depth, reports));
+    }
+
+    private Snapshot snapshot() {
+        Snapshot s = snapshot;
+        if (s != null) {
+            return s;
+        }
+        synchronized (this) {
+            if (snapshot == null) {
+                if (managers == null) {
+                    Map<Integer, Integer> loaded = new HashMap<>();
+                    jdbcTemplate.query("SELECT employee_id, manager_id FROM employees", rs -> {
+                        loaded.put(rs.getInt(1), (Integer) rs.getObject(2));
+                    });
+                    managers = loaded;
+                }
+                long start = System.nanoTime();
+                snapshot = Snapshot.build(managers);
+                logger.debug("Built org chart for {} employees in {} µs", managers.size(), (System.nanoTime() - start) / 1000);
+            }
+            return snapshot;
+        }
+    }
+
+    private static class Snapshot {
+        private int[] ids;        // node -> employee id, ascending so lookups are a binary search
+        private int[] parent;     // node -> manager node, -1 at the top
+        private int[] childStart; // CSR offsets into children, length n + 1
+        private int[] children;
+        private int[] enter;      // position of the node in order
+        private int[] exit;       // end (exclusive) of the node's subtree in order
+        private int[] order;      // nodes in depth-first visit order
+        private int[] level;      // distance from the top of the hierarchy
+
+        static Snapshot build(Map<Integer, Integer> managers) {
+            Snapshot s = new Snapshot();
+            int n = managers.size();
+            s.ids = managers.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+            s.parent = new int[n];
+            s.childStart = new int[n + 1];
+            for (int i = 0; i < n; i++) {
+                Integer manager = managers.get(s.ids[i]);
+                int p = manager == null ? -1 : Arrays.binarySearch(s.ids, manager);
+                // A manager that no longer exists, or a self-reference, makes this node a top
+                s.parent[i] = p < 0 || p == i ? -1 : p;
+                if (s.parent[i] >= 0) {
+                    s.childStart[s.parent[i] + 1]++;
+                }
+            }
+            for (int i = 0; i < n; i++) {
+                s.childStart[i + 1] += s.childStart[i];
+            }
+            s.children = new int[n];
+            int[] fill = Arrays.copyOf(s.childStart, n);
+            for (int i = 0; i < n; i++) {
+                if (s.parent[i] >= 0) {
+                    s.children[fill[s.parent[i]]++] = i;
+                }
+            }
+
+            s.enter = new int[n];
+            s.exit = new int[n];
+            s.order = new int[n];
+            s.level = new int[n];
+            Arrays.fill(s.enter, -1);
+            int[] stack = new int[n];
+            int[] cursor = new int[n];
+            int time = 0;
+            for (int root = 0; root < n; root++) {
+                if (s.parent[root] == -1) {
+                    time = s.visit(root, time, stack, cursor);
+                }
+            }
+            // Whatever is left reports, directly or not, into a managerId cycle. Walking up n steps
+            // from such a node always lands on the cycle, which is cut there.
+            for (int start = 0; start < n && time < n; start++) {
+                if (s.enter[start] == -1) {
+                    int root = start;
+                    for (int step = 0; step < n; step++) {
+                        root = s.parent[root];
+                    }
+                    logger.warn("Employee {} is part of a manager cycle, treating it as top level", s.ids[root]);
+                    s.parent[root] = -1;
+                    time = s.visit(root, time, stack, cursor);
+                }
+            }
+            return s;
+        }
+
+        // Iterative depth-first walk so deep hierarchies cannot overflow the call stack
+        private int visit(int root, int time, int[] stack, int[] cursor) {
+            int top = 0;
+            stack[top++] = root;
+            enter[root] = time;
+            order[time++] = root;
+            level[root] = 0;
+            cursor[root] = childStart[root];
+            while (top > 0) {
+                int node = stack[top - 1];
+                if (cursor[node] < childStart[node + 1]) {
+                    int child = children[cursor[node]++];
+                    if (enter[child] != -1) {
+                        continue;
+                    }
+                    enter[child] = time;
+                    order[time++] = child;
+                    level[child] = level[node] + 1;
+                    cursor[child] = childStart[child];
+                    stack[top++] = child;
+                } else {
+                    exit[node] = time;
+                    top--;
+                }
+            }
+            return time;
+        }
+    }
+}
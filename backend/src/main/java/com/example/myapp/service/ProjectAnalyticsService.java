@@ -0,0 +1,119 @@
+package com.example.myapp.service;
+
+import com.example.myapp.config.Reporting;
+import com.example.myapp.dto.ProjectAnalyticsDTO;
+import com.example.myapp.dto.ProjectAnalyticsDTO.ClientStats;
+import com.example.myapp.dto.ProjectAnalyticsDTO.DepartmentStats;
+import com.example.myapp.dto.ProjectAnalyticsDTO.MonthStats;
+import com.example.myapp.dto.ProjectAnalyticsDTO.QuarterStats;
+import com.example.myapp.dto.ProjectAnalyticsDTO.StatusCount;
+import com.example.myapp.model.ProjectStatus;
+import com.example.myapp.repository.ProjectRepository;
+import com.example.myapp.repository.ProjectRepository.PeriodCounts;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class ProjectAnalyticsService {
+
+    private static final int TIMELINE_MONTHS = 12;
+    private static final int TREND_QUARTERS = 8;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Reporting("analytics")
+    @Transactional(readOnly = true)
+    public ProjectAnalyticsDTO getProjectAnalytics() {
+        List<ProjectRepository.StatusCount> statusRows = projectRepository.countByStatus();
+        long total = statusRows.stream().mapToLong(ProjectRepository.StatusCount::getTotal).sum();
+        long completed = statusRows.stream()
+                .filter(row -> row.getStatus() == ProjectStatus.Completed)
+                .mapToLong(ProjectRepository.StatusCount::getTotal)
+                .sum();
+
+        List<StatusCount> statusDistribution = statusRows.stream()
+                .map(row -> new StatusCount(
+                        row.getStatus() != null ? row.getStatus().getDisplayName() : "Unknown",
+                        row.getTotal(),
+                        ProjectAnalyticsDTO.percentage(row.getTotal(), total)))
+                .toList();
+
+        return new ProjectAnalyticsDTO(
+                total,
+                ProjectAnalyticsDTO.percentage(completed, total),
+                statusDistribution,
+                getClientAnalysis(),
+                getDepartmentPerformance(),
+                getTimeline(YearMonth.now()),
+                getQuarterlyTrends(YearMonth.now()));
+    }
+
+    private List<ClientStats> getClientAnalysis() {
+        return projectRepository.countByClient(ProjectStatus.Completed, ProjectStatus.IN_PROGRESS).stream()
+                .map(row -> new ClientStats(row.getClientId(), row.getClientName(),
+                        row.getTotal(), row.getCompleted(), row.getActive()))
+                .sorted(Comparator.comparingLong(ClientStats::getValueScore).reversed())
+                .toList();
+    }
+
+    private List<DepartmentStats> getDepartmentPerformance() {
+        return projectRepository.countByDepartment(ProjectStatus.Completed, ProjectStatus.IN_PROGRESS).stream()
+                .filter(row -> row.getTotal() > 0 || row.getEmployees() > 0)
+                .map(row -> new DepartmentStats(row.getDepartmentId(), row.getDepartmentName(),
+                        row.getEmployees(), row.getTotal(), row.getCompleted(), row.getActive()))
+                .toList();
+    }
+
+    // Last 12 months including the current one; empty months are filled with zeros
+    private List<MonthStats> getTimeline(YearMonth current) {
+        YearMonth first = current.minusMonths(TIMELINE_MONTHS - 1);
+        String completedStatus = ProjectStatus.Completed.getDisplayName();
+        Map<String, Long> started = toMap(projectRepository.countStartedByMonth(first.atDay(1), completedStatus), false);
+        Map<String, Long> finished = toMap(projectRepository.countCompletedByMonth(first.atDay(1), completedStatus), false);
+
+        List<MonthStats> timeline = new ArrayList<>(TIMELINE_MONTHS);
+        long cumulative = 0;
+        for (YearMonth month = first; !month.isAfter(current); month = month.plusMonths(1)) {
+            String key = month.toString();
+            long monthStarted = started.getOrDefault(key, 0L);
+            cumulative += monthStarted;
+            timeline.add(new MonthStats(key, monthStarted, finished.getOrDefault(key, 0L), cumulative));
+        }
+        return timeline;
+    }
+
+    // Last 8 calendar quarters including the current one, by project start date
+    private List<QuarterStats> getQuarterlyTrends(YearMonth current) {
+        YearMonth currentQuarter = current.withMonth((current.getMonthValue() - 1) / 3 * 3 + 1);
+        YearMonth first = currentQuarter.minusMonths(3L * (TREND_QUARTERS - 1));
+        List<PeriodCounts> rows = projectRepository.countStartedByQuarter(
+                first.atDay(1), ProjectStatus.Completed.getDisplayName());
+        Map<String, Long> started = toMap(rows, false);
+        Map<String, Long> completed = toMap(rows, true);
+
+        List<QuarterStats> trends = new ArrayList<>(TREND_QUARTERS);
+        for (YearMonth quarter = first; !quarter.isAfter(currentQuarter); quarter = quarter.plusMonths(3)) {
+            String key = quarter.toString();
+            String label = "Q" + ((quarter.getMonthValue() - 1) / 3 + 1) + " " + quarter.getYear();
+            trends.add(new QuarterStats(label, started.getOrDefault(key, 0L), completed.getOrDefault(key, 0L)));
+        }
+        return trends;
+    }
+
+    private static Map<String, Long> toMap(List<PeriodCounts> rows, boolean completedColumn) {
+        Map<String, Long> byPeriod = new HashMap<>();
+        for (PeriodCounts row : rows) {
+            byPeriod.put(row.getPeriod(), completedColumn ? row.getCompleted() : row.getTotal());
+        }
+        return byPeriod;
+    }
+}
@@ -3,10 +3,18 @@ package com.example.myapp.service;
 import com.example.myapp.model.Project;
 import com.example.myapp.model.ProjectStatus;
 import com.example.myapp.repository.ProjectRepository;
+import com.example.myapp.dto.CursorPage;
+import com.example.myapp.service.DueDateScheduler.Kind;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,11 +24,24 @@ public class ProjectService {
     @Autowired
     private ProjectRepository projectRepository;
     
+    @Autowired
+    private DueDateScheduler dueDateScheduler;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
     @Transactional(readOnly = true)
     public List<Project> getAllProjects() {
         return projectRepository.findAll();
     }
     
+    @Transactional(readOnly = true)
+    public CursorPage<Project> getProjectsPage(String after, Integer limit) {
+        int pageSize = CursorPage.clampLimit(limit);
+        List<Project> rows = projectRepository.findByProjectIdGreaterThanOrderByProjectIdAsc(CursorPage.decodeCursor(after), Limit.of(pageSize + 1));
+        return CursorPage.of(rows, pageSize, Project::getProjectId);
+    }
+    
     @Transactional(readOnly = true)
     public Optional<Project> getProjectById(Integer id) {
         return projectRepository.findById(id);
@@ -50,7 +71,18 @@ public class ProjectService {
         return projectRepository.findByStatus(status);
     }
     
+    // Same approach as TaskService.getOverdueTasks
+    @Transactional(readOnly = true)
     public List<Project> getOverdueProjects() {
-        return projectRepository.findOverdueProjects(LocalDate.now());
+        if (!dueDateScheduler.isReady()) {
+            return projectRepository.findOverdueProjects(LocalDate.now());
+        }
+        List<Integer> ids = dueDateScheduler.overdueIds(Kind.PROJECT);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return entityManager.unwrap(Session.class).byMultipleIds(Project.class).with(CacheMode.NORMAL).multiLoad(ids).stream()
+                .filter(Objects::nonNull)
+                .toList();
     }
 } 
\ No newline at end of file
@@ -0,0 +1,351 @@
+package com.example.myapp.service;
+
+import com.example.myapp.dto.SearchResultDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+// Typeahead over employees, clients, projects, tasks and tickets. Each label is split into
+// pg_trgm style trigrams ("  j", " jo", "joh", ...) and every trigram maps to a sorted int[]
+// of document numbers. A query counts trigram hits per document and ranks by the share of
+// query trigrams matched, so no SQL runs per keystroke. Until the first load has finished,
+// queries go to the database instead, where they can use the gin_trgm_ops indexes.
+@Component
+public class SearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchIndex.class);
+
+    private static final String SEARCH_TIMER = "search.query";
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern WORD_SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    // Share of the query's trigrams a document must contain; below 1 so a typo still matches
+    private static final double MIN_MATCH = 0.6;
+
+    public static final String EMPLOYEE = "employee";
+    public static final String CLIENT = "client";
+    public static final String PROJECT = "project";
+    public static final String TASK = "task";
+    public static final String TICKET = "ticket";
+
+    public static final int DEFAULT_LIMIT = 10;
+    public static final int MAX_LIMIT = 50;
+
+    // type, table, id column, label expression, detail expression
+    private static final List<Source> SOURCES = List.of(
+            new Source(EMPLOYEE, "employees", "employee_id", "first_name || ' ' || last_name", "job_title"),
+            new Source(CLIENT, "clients", "client_id", "client_name", "contact_person"),
+            new Source(PROJECT, "projects", "project_id", "project_name", "status"),
+            new Source(TASK, "tasks", "task_id", "title", "status"),
+            new Source(TICKET, "tickets", "ticket_id", "title", "status"));
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, IntList> postings = new HashMap<>();
+    private final Map<String, Integer> documentNumbers = new HashMap<>();
+    // Removed documents leave a null slot; their stale postings are skipped at query time
+    private final List<Document> documents = new ArrayList<>();
+    private int removedDocuments = 0;
+    // Writes seen while a load is reading the tables, replayed on top of the loaded snapshot
+    private List<Runnable> changesDuringLoad = null;
+    private volatile boolean ready = false;
+
+    // Runs after Hibernate has created/updated the tables; the load itself happens off the startup thread
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+            for (Source source : SOURCES) {
+                jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS " + source.table + "_search_trgm_idx ON " + source.table +
+                        " USING gin ((" + source.label + ") gin_trgm_ops)");
+            }
+        } catch (Exception e) {
+            logger.warn("Trigram indexes unavailable, cold searches will scan: {}", e.getMessage());
+        }
+        taskScheduler.schedule(this::rebuild, Instant.now());
+    }
+
+    public void rebuild() {
+        long start = System.nanoTime();
+        List<Document> loaded = new ArrayList<>();
+        lock.writeLock().lock();
+        try {
+            changesDuringLoad = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            for (Source source : SOURCES) {
+                jdbcTemplate.query("SELECT " + source.idColumn + ", " + source.label + ", " + source.detail + " FROM " + source.table,
+                        rs -> { loaded.add(new Document(source.type, rs.getInt(1), rs.getString(2), rs.getString(3))); });
+            }
+        } catch (Exception e) {
+            logger.warn("Search index load failed, searches will keep using the database: {}", e.getMessage());
+            lock.writeLock().lock();
+            changesDuringLoad = null;
+            lock.writeLock().unlock();
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documentNumbers.clear();
+            documents.clear();
+            removedDocuments = 0;
+            loaded.forEach(this::add);
+            changesDuringLoad.forEach(Runnable::run);
+            changesDuringLoad = null;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Search index loaded {} documents, {} trigrams in {} ms",
+                loaded.size(), postings.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public void put(String type, Integer id, String label, String detail) {
+        if (id == null) {
+            return;
+        }
+        Document document = new Document(type, id, label, detail);
+        apply(() -> {
+            delete(type + ":" + id);
+            add(document);
+        });
+    }
+
+    public void remove(String type, Integer id) {
+        apply(() -> delete(type + ":" + id));
+    }
+
+    private void apply(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            change.run();
+            if (changesDuringLoad != null) {
+                changesDuringLoad.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<SearchResultDTO> search(String query, Integer limit) {
+        int max = limit == null ? DEFAULT_LIMIT : Math.max(1, Math.min(limit, MAX_LIMIT));
+        String normalized = normalize(query);
+        if (normalized.isBlank()) {
+            return List.of();
+        }
+        long start = System.nanoTime();
+        boolean fromIndex = ready;
+        List<SearchResultDTO> results = fromIndex ? searchIndex(normalized, max) : searchDatabase(query.trim(), max);
+        meterRegistry.timer(SEARCH_TIMER, "source", fromIndex ? "index" : "database")
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return results;
+    }
+
+    private List<SearchResultDTO> searchIndex(String normalized, int max) {
+        long[] trigrams = trigrams(normalized, true);
+        int required = (int) Math.ceil(trigrams.length * MIN_MATCH);
+        lock.readLock().lock();
+        try {
+            int[] hits = new int[documents.size()];
+            for (long trigram : trigrams) {
+                IntList list = postings.get(trigram);
+                if (list != null) {
+                    for (int i = 0; i < list.size; i++) {
+                        hits[list.values[i]]++;
+                    }
+                }
+            }
+            // Min-heap of the best max candidates seen so far
+            PriorityQueue<SearchResultDTO> best = new PriorityQueue<>(RANKING.reversed());
+            for (int doc = 0; doc < hits.length; doc++) {
+                Document document = documents.get(doc);
+                if (hits[doc] < required || document == null) {
+                    continue;
+                }
+                double score = (double) hits[doc] / trigrams.length;
+                // Exact substring and prefix matches outrank fuzzy ones with the same trigram overlap
+                if (document.normalized.startsWith(normalized)) {
+                    score += 1.0;
+                } else if (document.normalized.contains(normalized)) {
+                    score += 0.5;
+                }
+                best.add(new SearchResultDTO(document.type, document.id, document.label, document.detail, score));
+                if (best.size() > max) {
+                    best.poll();
+                }
+            }
+            List<SearchResultDTO> results = new ArrayList<>(best);
+            results.sort(RANKING);
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Cold path: ILIKE on the same label expressions the gin_trgm_ops indexes are built on
+    private List<SearchResultDTO> searchDatabase(String query, int max) {
+        String pattern = "%" + query.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+        StringBuilder sql = new StringBuilder();
+        List<Object> args = new ArrayList<>();
+        for (Source source : SOURCES) {
+            if (sql.length() > 0) {
+                sql.append(" UNION ALL ");
+            }
+            sql.append("SELECT '").append(source.type).append("' AS type, ").append(source.idColumn).append(" AS id, ")
+               .append(source.label).append(" AS label, ").append(source.detail).append(" AS detail, ")
+               .append("similarity(").append(source.label).append(", ?) AS score FROM ").append(source.table)
+               .append(" WHERE (").append(source.label).append(") ILIKE ?");
+            args.add(query);
+            args.add(pattern);
+        }
+        sql.append(" ORDER BY score DESC, label LIMIT ?");
+        args.add(max);
+        try {
+            return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> new SearchResultDTO(
+                    rs.getString("type"), rs.getInt("id"), rs.getString("label"), rs.getString("detail"), rs.getDouble("score")),
+                    args.toArray());
+        } catch (Exception e) {
+            logger.warn("Database search failed: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    private static final Comparator<SearchResultDTO> RANKING = Comparator
+            .comparingDouble(SearchResultDTO::getScore).reversed()
+            .thenComparingInt(result -> result.getLabel() != null ? result.getLabel().length() : 0)
+            .thenComparing(SearchResultDTO::getType)
+            .thenComparing(SearchResultDTO::getId);
+
+    // Callers hold the write lock
+    private void add(Document document) {
+        int doc = documents.size();
+        documents.add(document);
+        documentNumbers.put(document.type + ":" + document.id, doc);
+        // Document numbers only grow, so appending keeps every posting list sorted
+        for (long trigram : trigrams(document.normalized, false)) {
+            postings.computeIfAbsent(trigram, k -> new IntList()).add(doc);
+        }
+    }
+
+    private void delete(String key) {
+        Integer doc = documentNumbers.remove(key);
+        if (doc == null) {
+            return;
+        }
+        documents.set(doc, null);
+        removedDocuments++;
+        // Compact once tombstones dominate so stale postings do not slow down queries
+        if (removedDocuments > 1024 && removedDocuments > documents.size() / 2) {
+            List<Document> live = documents.stream().filter(d -> d != null).toList();
+            postings.clear();
+            documentNumbers.clear();
+            documents.clear();
+            removedDocuments = 0;
+            live.forEach(this::add);
+        }
+    }
+
+    // Lowercased, accents stripped ("Hélène" -> "helene"), words separated by single spaces
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String stripped = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return WORD_SEPARATORS.matcher(stripped.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    // Each word is padded with two leading and one trailing space like pg_trgm. For a query the last
+    // word may still be being typed, so it gets no trailing space and matches as a prefix.
+    static long[] trigrams(String normalized, boolean partialLastWord) {
+        Set<Long> trigrams = new LinkedHashSet<>();
+        String[] words = normalized.split(" ");
+        for (int w = 0; w < words.length; w++) {
+            if (words[w].isEmpty()) {
+                continue;
+            }
+            boolean open = partialLastWord && w == words.length - 1;
+            String padded = "  " + words[w] + (open ? "" : " ");
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                trigrams.add(((long) padded.charAt(i) << 32) | ((long) padded.charAt(i + 1) << 16) | padded.charAt(i + 2));
+            }
+        }
+        return trigrams.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static class Source {
+        private final String type;
+        private final String table;
+        private final String idColumn;
+        private final String label;
+        private final String detail;
+
+        Source(String type, String table, String idColumn, String label, String detail) {
+            this.type = type;
+            this.table = table;
+            this.idColumn = idColumn;
+            this.label = label;
+            this.detail = detail;
+        }
+    }
+
+    private static class Document {
+        private final String type;
+        private final int id;
+        private final String label;
+        private final String detail;
+        private final String normalized;
+
+        Document(String type, int id, String label, String detail) {
+            this.type = type;
+            this.id = id;
+            this.label = label;
+            this.detail = detail;
+            this.normalized = normalize(label);
+        }
+    }
+
+    private static class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.myapp.service;
+
+import com.example.myapp.dto.CursorPage;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Backs ?fields=a,b,c on the list endpoints: only the requested columns are selected,
+// nothing is hydrated into entities, and each row is serialized as a small JSON object.
+@Service
+public class SparseFieldsService {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> findAll(Class<?> entityClass, String fields) {
+        return query(entityClass, fields, null, null);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<Map<String, Object>> findPage(Class<?> entityClass, String fields, String after, Integer limit) {
+        int pageSize = CursorPage.clampLimit(limit);
+        String idName = idName(entityType(entityClass));
+        List<Map<String, Object>> rows = query(entityClass, fields, CursorPage.decodeCursor(after), pageSize + 1);
+        return CursorPage.of(rows, pageSize, row -> (Integer) row.get(idName));
+    }
+
+    private <T> List<Map<String, Object>> query(Class<T> entityClass, String fields, Integer after, Integer maxResults) {
+        EntityType<T> entity = entityType(entityClass);
+        String idName = idName(entity);
+        Set<String> selected = parseFields(entity, idName, fields);
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(entityClass);
+        query.multiselect(selected.stream().<Selection<?>>map(field -> root.get(field).alias(field)).toList());
+        if (after != null) {
+            query.where(cb.greaterThan(root.<Integer>get(idName), after));
+        }
+        query.orderBy(cb.asc(root.get(idName)));
+
+        TypedQuery<Tuple> typed = entityManager.createQuery(query);
+        if (maxResults != null) {
+            typed.setMaxResults(maxResults);
+        }
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Tuple tuple : typed.getResultList()) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (String field : selected) {
+                row.put(field, tuple.get(field));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    // The primary key is always returned first so rows stay identifiable and pageable
+    private static Set<String> parseFields(EntityType<?> entity, String idName, String fields) {
+        Set<String> selected = new LinkedHashSet<>();
+        selected.add(idName);
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            Attribute<?, ?> attribute = entity.getAttributes().stream()
+                    .filter(a -> a.getName().equals(name))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown field: " + name));
+            // Associations are not columns of this table and are never serialized anyway
+            if (attribute.getPersistentAttributeType() != Attribute.PersistentAttributeType.BASIC) {
+                throw new IllegalArgumentException("Field cannot be selected: " + name);
+            }
+            selected.add(name);
+        }
+        return selected;
+    }
+
+    private <T> EntityType<T> entityType(Class<T> entityClass) {
+        return entityManager.getMetamodel().entity(entityClass);
+    }
+
+    private static String idName(EntityType<?> entity) {
+        return entity.getId(entity.getIdType().getJavaType()).getName();
+    }
+}
@@ -4,10 +4,18 @@ import com.example.myapp.model.Task;
 import com.example.myapp.model.TaskStatus;
 import com.example.myapp.model.TaskPriority;
 import com.example.myapp.repository.TaskRepository;
+import com.example.myapp.dto.CursorPage;
+import com.example.myapp.service.DueDateScheduler.Kind;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,11 +25,24 @@ public class TaskService {
     @Autowired
     private TaskRepository taskRepository;
     
+    @Autowired
+    private DueDateScheduler dueDateScheduler;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
     @Transactional(readOnly = true)
     public List<Task> getAllTasks() {
         return taskRepository.findAll();
     }
     
+    @Transactional(readOnly = true)
+    public CursorPage<Task> getTasksPage(String after, Integer limit) {
+        int pageSize = CursorPage.clampLimit(limit);
+        List<Task> rows = taskRepository.findByTaskIdGreaterThanOrderByTaskIdAsc(CursorPage.decodeCursor(after), Limit.of(pageSize + 1));
+        return CursorPage.of(rows, pageSize, Task::getTaskId);
+    }
+    
     @Transactional(readOnly = true)
     public Optional<Task> getTaskById(Integer id) {
         return taskRepository.findById(id);
@@ -47,8 +68,20 @@ public class TaskService {
         return taskRepository.findByStatus(status);
     }
     
+    // The overdue ids come from the scheduler and the tasks from the second-level cache, so a warm
+    // poll runs no SQL; before the scheduler has loaded, falls back to the query
+    @Transactional(readOnly = true)
     public List<Task> getOverdueTasks() {
-        return taskRepository.findOverdueTasks(LocalDateTime.now());
+        if (!dueDateScheduler.isReady()) {
+            return taskRepository.findOverdueTasks(LocalDateTime.now());
+        }
+        List<Integer> ids = dueDateScheduler.overdueIds(Kind.TASK);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return entityManager.unwrap(Session.class).byMultipleIds(Task.class).with(CacheMode.NORMAL).multiLoad(ids).stream()
+                .filter(Objects::nonNull)
+                .toList();
     }
     
     public Task completeTask(Integer taskId) {
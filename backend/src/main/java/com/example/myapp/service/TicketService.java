@@ -4,7 +4,9 @@ import com.example.myapp.model.Ticket;
 import com.example.myapp.model.TicketStatus;
 import com.example.myapp.model.TicketPriority;
 import com.example.myapp.repository.TicketRepository;
+import com.example.myapp.dto.CursorPage;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -19,7 +21,14 @@ public class TicketService {
     
     @Transactional(readOnly = true)
     public List<Ticket> getAllTickets() {
-        return ticketRepository.findAllWithRelations();
+        return ticketRepository.findAll();
+    }
+    
+    @Transactional(readOnly = true)
+    public CursorPage<Ticket> getTicketsPage(String after, Integer limit) {
+        int pageSize = CursorPage.clampLimit(limit);
+        List<Ticket> rows = ticketRepository.findByTicketIdGreaterThanOrderByTicketIdAsc(CursorPage.decodeCursor(after), Limit.of(pageSize + 1));
+        return CursorPage.of(rows, pageSize, Ticket::getTicketId);
     }
     
     @Transactional(readOnly = true)
@@ -0,0 +1,35 @@
+// Read-your-writes: the backend keeps a client's reads on the primary database for a few seconds
+// after that client writes, so a list reloaded right after a save never comes from a replica that
+// has not caught up yet. Clients are told apart by X-Client-Id only. The header is sent on writes
+// and for a short while after them, so ordinary GETs stay simple CORS requests without a preflight.
+const CLIENT_HEADER = 'X-Client-Id';
+const PIN_WINDOW_MS = 10000;
+
+const newClientId = () =>
+  (window.crypto && window.crypto.randomUUID)
+    ? window.crypto.randomUUID()
+    : `${Date.now().toString(36)}-${Math.random().toString(36).slice(2)}`;
+
+const clientId = sessionStorage.getItem('clientId') || newClientId();
+sessionStorage.setItem('clientId', clientId);
+
+let lastWriteAt = 0;
+const nativeFetch = window.fetch.bind(window);
+
+window.fetch = (input, init = {}) => {
+  const url = typeof input === 'string' ? input : input.url;
+  const method = (init.method || (typeof input === 'string' ? 'GET' : input.method) || 'GET').toUpperCase();
+  if (!url.includes('/api/')) {
+    return nativeFetch(input, init);
+  }
+  const isWrite = method !== 'GET' && method !== 'HEAD';
+  if (isWrite) {
+    lastWriteAt = Date.now();
+  }
+  if (!isWrite && Date.now() - lastWriteAt > PIN_WINDOW_MS) {
+    return nativeFetch(input, init);
+  }
+  const headers = new Headers(init.headers || (typeof input === 'string' ? undefined : input.headers));
+  headers.set(CLIENT_HEADER, clientId);
+  return nativeFetch(input, { ...init, headers });
+};
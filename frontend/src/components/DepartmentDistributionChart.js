@@ -48,8 +48,8 @@ const DepartmentDistributionChart = () => {
         setLoading(true);
         const [departmentsRes, employeesRes, projectsRes] = await Promise.all([
           fetch('http://localhost:8080/api/departments'),
-          fetch('http://localhost:8080/api/employees'),
-          fetch('http://localhost:8080/api/projects')
+          fetch('http://localhost:8080/api/employees?fields=departmentId'),
+          fetch('http://localhost:8080/api/projects?fields=departmentId')
         ]);
 
         if (!departmentsRes.ok || !employeesRes.ok || !projectsRes.ok) {
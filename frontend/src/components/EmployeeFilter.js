@@ -59,15 +59,11 @@ const EmployeeFilter = ({
     const fetchData = async () => {
       try {
         setLoading(true);
-        const [employeesRes, departmentsRes, tasksRes] = await Promise.all([
-          fetch('http://localhost:8080/api/employees'),
-          fetch('http://localhost:8080/api/departments'),
-          fetch('http://localhost:8080/api/tasks')
-        ]);
-
-        const employeesData = employeesRes.ok ? await employeesRes.json() : [];
-        const departmentsData = departmentsRes.ok ? await departmentsRes.json() : [];
-        const tasksData = tasksRes.ok ? await tasksRes.json() : [];
+        const response = await fetch('http://localhost:8080/api/bootstrap/employee-filter');
+        const data = response.ok ? await response.json() : {};
+        const employeesData = data.employees || [];
+        const departmentsData = data.departments || [];
+        const tasksData = data.tasks || [];
 
         setEmployees(employeesData);
         setDepartments(departmentsData);
@@ -42,23 +42,18 @@ const EmployeeMetrics = () => {
     const fetchData = async () => {
       try {
         setLoading(true);
-        const [employeesRes, departmentsRes, projectsRes, tasksRes] = await Promise.all([
-          fetch('http://localhost:8080/api/employees'),
-          fetch('http://localhost:8080/api/departments'),
-          fetch('http://localhost:8080/api/projects'),
-          fetch('http://localhost:8080/api/tasks')
-        ]);
-
-        if (!employeesRes.ok || !departmentsRes.ok || !projectsRes.ok || !tasksRes.ok) {
+        const response = await fetch('http://localhost:8080/api/bootstrap/employee-metrics');
+
+        if (!response.ok) {
           throw new Error('Failed to fetch metrics data');
         }
 
-        const [employeesData, departmentsData, projectsData, tasksData] = await Promise.all([
-          employeesRes.json(),
-          departmentsRes.json(),
-          projectsRes.json(),
-          tasksRes.json()
-        ]);
+        const {
+          employees: employeesData,
+          departments: departmentsData,
+          projects: projectsData,
+          tasks: tasksData
+        } = await response.json();
 
         setEmployees(employeesData);
         setDepartments(departmentsData);
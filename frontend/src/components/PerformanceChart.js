@@ -44,8 +44,8 @@ const PerformanceChart = () => {
       try {
         setLoading(true);
         const [tasksRes, ticketsRes] = await Promise.all([
-          fetch('http://localhost:8080/api/tasks'),
-          fetch('http://localhost:8080/api/tickets')
+          fetch('http://localhost:8080/api/tasks?fields=assignedDate,status'),
+          fetch('http://localhost:8080/api/tickets?fields=createdAt,status')
         ]);
 
         if (!tasksRes.ok || !ticketsRes.ok) {
@@ -0,0 +1,61 @@
+import { useEffect } from 'react';
+
+// react-query key and id field of each list the change feed can patch
+const ENTITY_QUERIES = {
+  client: { queryKey: ['clients'], idField: 'clientId' },
+  department: { queryKey: ['departments'], idField: 'departmentId' },
+  project: { queryKey: ['projects'], idField: 'projectId' },
+  ticket: { queryKey: ['tickets'], idField: 'ticketId' },
+  employee: { queryKey: ['employees'], idField: 'employeeId' },
+  task: { queryKey: ['tasks'], idField: 'taskId' },
+  contract: { queryKey: ['contracts'], idField: 'contractId' },
+};
+
+// Keeps the cached lists of the given entities current from /api/changes/stream instead of
+// refetching whole tables. EventSource reconnects on its own and resumes from the last event id.
+const useChangeFeed = (queryClient, entities) => {
+  const watched = entities.join(',');
+
+  useEffect(() => {
+    const names = watched.split(',');
+    const source = new EventSource('http://localhost:8080/api/changes/stream');
+
+    source.addEventListener('change', (event) => {
+      const change = JSON.parse(event.data);
+      const target = ENTITY_QUERIES[change.entity];
+      if (!target || !names.includes(change.entity)) {
+        return;
+      }
+      if (change.op === 'resync') {
+        queryClient.invalidateQueries(target.queryKey);
+        return;
+      }
+      queryClient.setQueryData(target.queryKey, (rows) => {
+        if (!rows) {
+          return rows;
+        }
+        const others = rows.filter((row) => row[target.idField] !== change.id);
+        if (change.op === 'delete') {
+          return others;
+        }
+        const index = rows.findIndex((row) => row[target.idField] === change.id);
+        if (index === -1) {
+          return [...rows, change.data];
+        }
+        // Keep fields the feed does not carry (e.g. nested lists) and the row's position
+        const updated = [...rows];
+        updated[index] = { ...rows[index], ...change.data };
+        return updated;
+      });
+    });
+
+    // Fell too far behind the feed: reload every watched list once
+    source.addEventListener('resync', () => {
+      names.forEach((name) => queryClient.invalidateQueries(ENTITY_QUERIES[name].queryKey));
+    });
+
+    return () => source.close();
+  }, [queryClient, watched]);
+};
+
+export default useChangeFeed;
@@ -71,6 +71,7 @@ import {
 import { styled } from '@mui/material/styles';
 import { useQuery, useMutation, useQueryClient } from '@tanstack/react-query';
 import axios from 'axios';
+import useChangeFeed from '../hooks/useChangeFeed';
 
 const ACCENT = '#4F8DFD';
 const ACCENT2 = '#00C49F';
@@ -159,6 +160,9 @@ const Client = () => {
     queryFn: () => axios.get('http://localhost:8080/api/tickets').then(res => res.data),
   });
 
+  // Applies inserts, updates and deletes to the lists above as they happen
+  useChangeFeed(queryClient, ['client', 'department', 'project', 'ticket']);
+
   const clients = clientsData || [];
   const departments = departmentsData || [];
   const projects = projectsData || [];
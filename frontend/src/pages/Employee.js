@@ -102,22 +102,18 @@ const Employee = () => {
     const fetchData = async () => {
       try {
         setLoading(true);
-        const [employeesRes, departmentsRes, tasksRes, ticketsRes, projectsRes] = await Promise.all([
-          fetch('http://localhost:8080/api/employees'),
-          fetch('http://localhost:8080/api/departments'),
-          fetch('http://localhost:8080/api/tasks'),
-          fetch('http://localhost:8080/api/tickets'),
-          fetch('http://localhost:8080/api/projects')
-        ]);
-
-        // We'll let individual components handle their own data errors
-        const [employeesData, departmentsData, tasksData, ticketsData, projectsData] = await Promise.all([
-          employeesRes.ok ? employeesRes.json() : [],
-          departmentsRes.ok ? departmentsRes.json() : [],
-          tasksRes.ok ? tasksRes.json() : [],
-          ticketsRes.ok ? ticketsRes.json() : [],
-          projectsRes.ok ? projectsRes.json() : []
-        ]);
+        // One request for all five lists, see /api/bootstrap
+        const response = await fetch('http://localhost:8080/api/bootstrap/employee');
+        if (!response.ok) {
+          throw new Error('Failed to fetch employee page data');
+        }
+        const {
+          employees: employeesData,
+          departments: departmentsData,
+          tasks: tasksData,
+          tickets: ticketsData,
+          projects: projectsData
+        } = await response.json();
 
         setEmployees(employeesData);
         setDepartments(departmentsData);
@@ -90,6 +90,19 @@ const apiService = {
       console.error('Error fetching tickets:', error);
       return [];
     }
+  },
+
+  // KPI tiles precomputed server-side, keyed by tile name
+  async fetchKpis() {
+    try {
+      const response = await fetch(`${this.baseURL}/kpis`);
+      if (!response.ok) throw new Error('Failed to fetch KPIs');
+      const tiles = await response.json();
+      return Object.fromEntries(tiles.map(tile => [tile.tile, tile.value]));
+    } catch (error) {
+      console.error('Error fetching KPIs:', error);
+      return null;
+    }
   }
 };
 
@@ -511,14 +524,16 @@ const HRDashboard = () => {
           projectsData,
           clientsData,
           contractsData,
-          ticketsData
+          ticketsData,
+          kpis
         ] = await Promise.all([
           apiService.fetchEmployees(),
           apiService.fetchDepartments(),
           apiService.fetchProjects(),
           apiService.fetchClients(),
           apiService.fetchContracts(),
-          apiService.fetchTickets()
+          apiService.fetchTickets(),
+          apiService.fetchKpis()
         ]);
 
         // Set raw data
@@ -548,7 +563,14 @@ const HRDashboard = () => {
         const activeProjects = projectsData.filter(p => p.status === 'IN_PROGRESS').length;
         const resolvedTickets = ticketsData.filter(t => t.status === 'Resolved').length;
         
-        setMetrics({
+        setMetrics(kpis ? {
+          totalEmployees: kpis.headcount,
+          totalDepartments: kpis.departments,
+          turnoverRate,
+          satisfactionScore: kpis.ticketResolutionRate,
+          activeProjects: kpis.activeProjects,
+          resolvedTickets: kpis.resolvedTickets
+        } : {
           totalEmployees: activeEmployees.length,
           totalDepartments: departmentsData.length,
           turnoverRate,
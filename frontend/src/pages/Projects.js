@@ -48,12 +48,8 @@ const GRADIENT_COLORS = {
 const ProjectDashboard = () => {
   // State management for all data entities
   const [projects, setProjects] = useState([]);
-  const [clients, setClients] = useState([]);
-  const [departments, setDepartments] = useState([]);
-  const [employees, setEmployees] = useState([]);
-  const [tasks, setTasks] = useState([]);
-  const [tickets, setTickets] = useState([]);
-  const [contracts, setContracts] = useState([]);
+  const [kpis, setKpis] = useState({});
+  const [analytics, setAnalytics] = useState(null);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState(null);
   const [lastUpdated, setLastUpdated] = useState(new Date());
@@ -74,14 +70,11 @@ const ProjectDashboard = () => {
       
       console.log('🚀 Starting comprehensive data fetch...');
       
+      // Only the project columns the KPIs read (sparse fieldset); client, department and employee
+      // totals come from the precomputed KPI tiles and the top client from the analytics endpoint
       const endpoints = [
-        { name: 'projects', url: `${API_BASE_URL}/projects` },
-        { name: 'clients', url: `${API_BASE_URL}/clients` },
-        { name: 'departments', url: `${API_BASE_URL}/departments` },
-        { name: 'employees', url: `${API_BASE_URL}/employees` },
-        { name: 'tasks', url: `${API_BASE_URL}/tasks` },
-        { name: 'tickets', url: `${API_BASE_URL}/tickets` },
-        { name: 'contracts', url: `${API_BASE_URL}/contracts` }
+        { name: 'projects', url: `${API_BASE_URL}/projects?fields=status,startDate,endDate,dueAt,clientId,departmentId,chefId` },
+        { name: 'kpis', url: `${API_BASE_URL}/kpis` }
       ];
 
       const fetchPromises = endpoints.map(async endpoint => {
@@ -100,7 +93,14 @@ const ProjectDashboard = () => {
         }
       });
 
-      const results = await Promise.all(fetchPromises);
+      const analyticsPromise = fetch(`${API_BASE_URL}/analytics/projects`)
+        .then(response => (response.ok ? response.json() : null))
+        .catch(err => {
+          console.warn('⚠️ analytics fetch failed:', err.message);
+          return null;
+        });
+
+      const [results, analyticsData] = await Promise.all([Promise.all(fetchPromises), analyticsPromise]);
       const dataMap = {};
 
       results.forEach(result => {
@@ -109,12 +109,8 @@ const ProjectDashboard = () => {
 
       // Set all data states
       setProjects(dataMap.projects);
-      setClients(dataMap.clients);
-      setDepartments(dataMap.departments);
-      setEmployees(dataMap.employees);
-      setTasks(dataMap.tasks);
-      setTickets(dataMap.tickets);
-      setContracts(dataMap.contracts);
+      setKpis(Object.fromEntries(dataMap.kpis.map(tile => [tile.tile, tile.value])));
+      setAnalytics(analyticsData);
 
       setLastUpdated(new Date());
 
@@ -193,7 +189,7 @@ const ProjectDashboard = () => {
           const start = new Date(p.startDate);
           const end = new Date(p.endDate);
           const durationDays = Math.ceil((end - start) / (1000 * 60 * 60 * 24));
-          console.log(`Project ${p.projectName}: ${durationDays} days`);
+          console.log(`Project ${p.projectId}: ${durationDays} days`);
           return sum + durationDays;
         }, 0) / completedProjectsWithDates.length)
       : 0;
@@ -217,20 +213,12 @@ const ProjectDashboard = () => {
       : projectsThisMonth > 0 ? 100 : 0;
 
     // Top client calculation
-    const topClient = clients.length > 0 ? (() => {
-      const clientProjectCounts = {};
-      projects.forEach(p => {
-        if (p.clientId) {
-          clientProjectCounts[p.clientId] = (clientProjectCounts[p.clientId] || 0) + 1;
-        }
-      });
-      const topClientId = Object.keys(clientProjectCounts).reduce((a, b) => 
-        clientProjectCounts[a] > clientProjectCounts[b] ? a : b, null
-      );
-      const topClientData = clients.find(c => c.clientId === parseInt(topClientId));
+    const clientAnalysis = analytics?.clientAnalysis || [];
+    const topClient = clientAnalysis.length > 0 ? (() => {
+      const topClientData = clientAnalysis.reduce((a, b) => (a.totalProjects >= b.totalProjects ? a : b));
       return {
-        name: topClientData?.clientName || 'Unknown',
-        projectCount: clientProjectCounts[topClientId] || 0
+        name: topClientData.name || 'Unknown',
+        projectCount: topClientData.totalProjects || 0
       };
     })() : { name: 'N/A', projectCount: 0 };
 
@@ -266,203 +254,39 @@ const ProjectDashboard = () => {
       topClient,
       
       // Totals for context
-      totalClients: clients.length,
-      totalDepartments: departments.length,
-      totalEmployees: employees.length
+      totalClients: kpis.clients ?? 0,
+      totalDepartments: kpis.departments ?? 0,
+      totalEmployees: kpis.totalEmployees ?? 0
     };
 
     console.log('📈 Comprehensive KPIs calculated:', comprehensiveMetrics);
     return comprehensiveMetrics;
-  }, [projects, clients, departments, employees]);
+  }, [projects, kpis, analytics]);
 
   // Chart data calculations
   const chartDataSets = useMemo(() => {
-    console.log('📊 Generating chart datasets...');
-
-    // Status Distribution
-    const statusDistributionData = (() => {
-      const statusCounts = {};
-      
-      projects.forEach(project => {
-        const status = project.status || 'INCONNU';
-        statusCounts[status] = (statusCounts[status] || 0) + 1;
-      });
-      
-      const statusLabels = {
-        'EN_COURS': 'En cours',
-        'TERMINE': 'Terminé',
-        'EN_ATTENTE': 'En attente',
-        'ANNULE': 'Annulé',
-        'COMPLETED': 'Terminé',
-        'INCONNU': 'Statut inconnu'
+    // Aggregates are computed server-side by /analytics/projects; only presentation is done here
+    const statusDistributionData = (analytics?.statusDistribution || []).map((status, index) => ({
+      ...status,
+      color: COLORS[index % COLORS.length]
+    }));
+
+    const timelineAnalysisData = (analytics?.timelineAnalysis || []).map(point => {
+      const [year, month] = point.month.split('-').map(Number);
+      return {
+        ...point,
+        month: new Date(year, month - 1, 1).toLocaleDateString('fr-FR', { month: 'short', year: 'numeric' })
       };
+    });
 
-      return Object.entries(statusCounts).map(([status, count]) => ({
-        name: statusLabels[status] || status,
-        value: count,
-        percentage: Math.round((count / projects.length) * 100),
-        color: COLORS[Object.keys(statusCounts).indexOf(status) % COLORS.length]
-      }));
-    })();
-
-    // Client Analysis
-    const clientAnalysisData = (() => {
-      const clientMetrics = clients.map(client => {
-        const clientProjects = projects.filter(p => p.clientId === client.clientId);
-        const completedProjects = clientProjects.filter(p => p.status === 'TERMINE' || p.status === 'COMPLETED');
-        const activeProjects = clientProjects.filter(p => p.status === 'EN_COURS');
-
-        const valueScore = Math.round(
-          (clientProjects.length * 10) + 
-          (completedProjects.length * 15) + 
-          (activeProjects.length * 5)
-        );
-
-        return {
-          clientId: client.clientId,
-          name: client.clientName,
-          totalProjects: clientProjects.length,
-          completedProjects: completedProjects.length,
-          activeProjects: activeProjects.length,
-          successRate: clientProjects.length > 0 ? Math.round((completedProjects.length / clientProjects.length) * 100) : 0,
-          valueScore: valueScore
-        };
-      }).filter(c => c.totalProjects > 0)
-        .sort((a, b) => b.valueScore - a.valueScore);
-
-      return clientMetrics;
-    })();
-
-    // Department Performance
-    const departmentPerformanceData = (() => {
-      return departments.map(dept => {
-        const deptEmployees = employees.filter(e => e.departmentId === dept.departmentId);
-        const deptProjects = projects.filter(p => p.departmentId === dept.departmentId);
-        const completedProjects = deptProjects.filter(p => p.status === 'TERMINE' || p.status === 'COMPLETED');
-        const activeProjects = deptProjects.filter(p => p.status === 'EN_COURS');
-
-        return {
-          departmentId: dept.departmentId,
-          name: dept.departmentName,
-          employees: deptEmployees.length,
-          totalProjects: deptProjects.length,
-          completedProjects: completedProjects.length,
-          activeProjects: activeProjects.length,
-          successRate: deptProjects.length > 0 ? Math.round((completedProjects.length / deptProjects.length) * 100) : 0,
-          projectsPerEmployee: deptEmployees.length > 0 ? Math.round((deptProjects.length / deptEmployees.length) * 10) / 10 : 0
-        };
-      }).filter(d => d.totalProjects > 0 || d.employees > 0);
-    })();
-
-    // Timeline Analysis
-    const timelineAnalysisData = (() => {
-      const timelineData = {};
-      const months = 12;
-      
-      for (let i = months - 1; i >= 0; i--) {
-        const date = new Date();
-        date.setMonth(date.getMonth() - i);
-        const monthKey = `${date.getFullYear()}-${String(date.getMonth() + 1).padStart(2, '0')}`;
-        timelineData[monthKey] = {
-          month: date.toLocaleDateString('fr-FR', { month: 'short', year: 'numeric' }),
-          projectsStarted: 0,
-          projectsCompleted: 0,
-          cumulativeProjects: 0
-        };
-      }
-
-      let cumulativeCount = 0;
-
-      projects.forEach(project => {
-        // Project starts
-        if (project.startDate) {
-          const startDate = new Date(project.startDate);
-          const startKey = `${startDate.getFullYear()}-${String(startDate.getMonth() + 1).padStart(2, '0')}`;
-          if (timelineData[startKey]) {
-            timelineData[startKey].projectsStarted++;
-          }
-        }
-
-        // Project completions
-        if (project.endDate && (project.status === 'TERMINE' || project.status === 'COMPLETED')) {
-          const endDate = new Date(project.endDate);
-          const endKey = `${endDate.getFullYear()}-${String(endDate.getMonth() + 1).padStart(2, '0')}`;
-          if (timelineData[endKey]) {
-            timelineData[endKey].projectsCompleted++;
-          }
-        }
-      });
-
-      // Calculate cumulative projects
-      Object.keys(timelineData).sort().forEach(key => {
-        cumulativeCount += timelineData[key].projectsStarted;
-        timelineData[key].cumulativeProjects = cumulativeCount;
-      });
-
-      return Object.values(timelineData);
-    })();
-
-    // Performance Trends
-    const performanceTrendsData = (() => {
-      const trends = {};
-      const quarters = 8;
-      
-      for (let i = quarters - 1; i >= 0; i--) {
-        const date = new Date();
-        date.setMonth(date.getMonth() - (i * 3));
-        const quarter = Math.floor(date.getMonth() / 3) + 1;
-        const year = date.getFullYear();
-        const quarterKey = `Q${quarter} ${year}`;
-        
-        trends[quarterKey] = {
-          quarter: quarterKey,
-          projectsStarted: 0,
-          projectsCompleted: 0,
-          successRate: 0
-        };
-      }
-
-      Object.keys(trends).forEach(quarterKey => {
-        const [quarter, year] = quarterKey.split(' ');
-        const quarterNum = parseInt(quarter.replace('Q', ''));
-        const yearNum = parseInt(year);
-        
-        const startMonth = (quarterNum - 1) * 3;
-        const endMonth = startMonth + 3;
-        
-        const quarterProjects = projects.filter(project => {
-          if (!project.startDate) return false;
-          const startDate = new Date(project.startDate);
-          return startDate.getFullYear() === yearNum && 
-                 startDate.getMonth() >= startMonth && 
-                 startDate.getMonth() < endMonth;
-        });
-
-        const completedQuarterProjects = quarterProjects.filter(p => 
-          p.status === 'TERMINE' || p.status === 'COMPLETED'
-        );
-
-        trends[quarterKey].projectsStarted = quarterProjects.length;
-        trends[quarterKey].projectsCompleted = completedQuarterProjects.length;
-        trends[quarterKey].successRate = quarterProjects.length > 0 
-          ? Math.round((completedQuarterProjects.length / quarterProjects.length) * 100)
-          : 0;
-      });
-
-      return Object.values(trends);
-    })();
-
-    const chartData = {
+    return {
       statusDistribution: statusDistributionData,
-      clientAnalysis: clientAnalysisData,
-      departmentPerformance: departmentPerformanceData,
+      clientAnalysis: analytics?.clientAnalysis || [],
+      departmentPerformance: analytics?.departmentPerformance || [],
       timelineAnalysis: timelineAnalysisData,
-      performanceTrends: performanceTrendsData
+      performanceTrends: analytics?.performanceTrends || []
     };
-
-    console.log('📊 Chart datasets generated');
-    return chartData;
-  }, [projects, clients, departments, employees]);
+  }, [analytics]);
 
   // Enhanced KPI card component matching the screenshot style
   const KPICard = ({ 